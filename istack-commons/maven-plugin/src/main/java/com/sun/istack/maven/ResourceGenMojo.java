@@ -25,6 +25,7 @@ import com.sun.codemodel.JMod;
 import com.sun.codemodel.JPackage;
 import com.sun.codemodel.JVar;
 import com.sun.codemodel.writer.FileCodeWriter;
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -36,12 +37,17 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
 
 
 /**
@@ -60,6 +66,8 @@ import java.util.Properties;
         defaultPhase = LifecyclePhase.PROCESS_SOURCES)
 public class ResourceGenMojo extends AbstractMojo {
 
+    private static final String BUNDLE_INDEX = "META-INF/istack/localization-bundles";
+
     /**
      * Location of the destination directory.
      */
@@ -106,6 +114,38 @@ public class ResourceGenMojo extends AbstractMojo {
     @Parameter(property = "rs.javadoc", defaultValue = "true")
     private boolean javadoc;
 
+    /**
+     * Generate an index of the processed resource bundles, and a {@code preload} method
+     * in each generated class, so that they can be listed and preloaded at runtime.
+     * @since 4.2.1
+     */
+    @Parameter(property = "rs.bundleIndex", defaultValue = "false")
+    private boolean bundleIndex;
+
+    /**
+     * Generate formatting methods taking the {@code java.util.Locale} of the message
+     * as the first parameter.
+     * @since 4.2.1
+     */
+    @Parameter(property = "rs.localeMethods", defaultValue = "false")
+    private boolean localeMethods;
+
+    /**
+     * Generate {@code append}<i>METHOD</i> formatting methods appending the message
+     * to the {@code java.lang.Appendable} given as the first parameter. They are named
+     * differently from the locale methods, which take the same number of parameters.
+     * @since 4.2.1
+     */
+    @Parameter(property = "rs.appendableMethods", defaultValue = "false")
+    private boolean appendableMethods;
+
+    /**
+     * Location of the destination directory for the generated resources.
+     * @since 4.2.1
+     */
+    @Parameter(property = "resourcesDestDir", defaultValue = "${project.build.directory}/generated-resources/resources")
+    private File resourcesDestDir;
+
     /**
      * File encoding for generated sources.
      * @since 2.12
@@ -169,6 +209,8 @@ public class ResourceGenMojo extends AbstractMojo {
         }
 
         JCodeModel cm = new JCodeModel();
+        // bundle name -> generated class name
+        Map<String, String> bundleNames = new TreeMap<>();
 
         for (Path p : includedFiles) {
             File res = resources.resolve(p).toFile();
@@ -178,6 +220,7 @@ public class ResourceGenMojo extends AbstractMojo {
 
             String bundleName = value.substring(0, value.lastIndexOf('.')).replace('/', '.').replace('\\', '.');// cut off '.properties'
             String dirName = bundleName.substring(0, bundleName.lastIndexOf('.'));
+            bundleNames.put(bundleName, dirName + '.' + className);
 
             File destFile = destDir.toPath().resolve(dirName.replace('.', '/')).resolve(className+".java").toFile();
             if(destFile.exists() && (destFile.lastModified() >= res.lastModified())) {
@@ -273,6 +316,21 @@ public class ResourceGenMojo extends AbstractMojo {
             // private CLASS() {}
             clazz.constructor(JMod.PRIVATE);
 
+            if (bundleIndex) {
+                // [RESULT]
+                // Set<Locale> preload(Collection<Locale> locales) {
+                //   return localizer.preload(locales, messageFactory);
+                // }
+                JMethod preload = clazz.method(JMod.PUBLIC | JMod.STATIC,
+                        cm.ref(Set.class).narrow(locale_class), "preload");
+                if (javadoc) {
+                    preload.javadoc().add("Resolves the resource bundle of these messages for the given locales ahead of time.");
+                    preload.javadoc().addReturn().add("locales for which the resource bundle could not be found");
+                }
+                JVar $locales = preload.param(cm.ref(Collection.class).narrow(locale_class), "locales");
+                preload.body()._return($localizer.invoke("preload").arg($locales).arg($msgFactory));
+            }
+
             for (Map.Entry<Object,Object> e : props.entrySet()) {
                 // [RESULT]
                 // Localizable METHOD_localizable(Object arg1, Object arg2, ...) {
@@ -290,10 +348,18 @@ public class ResourceGenMojo extends AbstractMojo {
                 JInvocation format = $msgFactory.invoke("getMessage").arg(
                     JExpr.lit(e.getKey().toString()));
 
-                for( int i=0; i<countArgs; i++ ) {
-                    format.arg( method.param(Object.class,"arg"+i));
+                if (countArgs == 0) {
+                    // [RESULT]
+                    // private static final Localizable LOCALIZABLE_METHOD = messageFactory.getMessage("key");
+                    JFieldVar $constant = clazz.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL,
+                            lable_class, "LOCALIZABLE_" + methodBaseName, format);
+                    method.body()._return($constant);
+                } else {
+                    for( int i=0; i<countArgs; i++ ) {
+                        format.arg( method.param(Object.class,"arg"+i));
+                    }
+                    method.body()._return(format);
                 }
-                method.body()._return(format);
 
                 JMethod method2 = clazz.method(JMod.PUBLIC|JMod.STATIC, String.class, methodBaseName);
                 if (javadoc) {
@@ -306,6 +372,45 @@ public class ResourceGenMojo extends AbstractMojo {
                 }
 
                 method2.body()._return($localizer.invoke("localize").arg(localize));
+
+                if (localeMethods) {
+                    // [RESULT]
+                    // String METHOD(Locale locale, Object arg1, Object arg2, ...) {
+                    //   return localizer.localize(METHOD_localizable(arg1,arg2,...), locale);
+                    // }
+                    JMethod method3 = clazz.method(JMod.PUBLIC|JMod.STATIC, String.class, methodBaseName);
+                    if (javadoc) {
+                        method3.javadoc().add(escape(e.getValue().toString()));
+                    }
+                    JVar $locale = method3.param(locale_class, "locale");
+
+                    JInvocation localize3 = JExpr.invoke(method);
+                    for( int i=0; i<countArgs; i++ ) {
+                        localize3.arg( method3.param(Object.class,"arg"+i));
+                    }
+
+                    method3.body()._return($localizer.invoke("localize").arg(localize3).arg($locale));
+                }
+
+                if (appendableMethods) {
+                    // [RESULT]
+                    // void appendMETHOD(Appendable out, Object arg1, Object arg2, ...) throws IOException {
+                    //   localizer.localizeTo(METHOD_localizable(arg1,arg2,...), out);
+                    // }
+                    JMethod method4 = clazz.method(JMod.PUBLIC|JMod.STATIC, cm.VOID, "append"+methodBaseName);
+                    if (javadoc) {
+                        method4.javadoc().add(escape(e.getValue().toString()));
+                    }
+                    method4._throws(IOException.class);
+                    JVar $out = method4.param(Appendable.class, "out");
+
+                    JInvocation localize4 = JExpr.invoke(method);
+                    for( int i=0; i<countArgs; i++ ) {
+                        localize4.arg( method4.param(Object.class,"arg"+i));
+                    }
+
+                    method4.body().add($localizer.invoke("localizeTo").arg(localize4).arg($out));
+                }
             }
         }
 
@@ -322,6 +427,40 @@ public class ResourceGenMojo extends AbstractMojo {
         if (project != null) {
             project.addCompileSourceRoot(destDir.getAbsolutePath());
         }
+
+        if (bundleIndex) {
+            writeBundleIndex(bundleNames);
+        }
+    }
+
+    /**
+     * Writes the names of all processed resource bundles, each followed by the name of
+     * its generated class, to {@code META-INF/istack/localization-bundles}, where
+     * {@code Localizer.getBundleNames(ClassLoader)} and
+     * {@code Localizer.preloadMessages(ClassLoader, Collection)} look for them.
+     */
+    private void writeBundleIndex(Map<String, String> bundleNames) throws MojoExecutionException {
+        if (resourcesDestDir == null) {
+            throw new MojoExecutionException("No resourcesDestDir attribute is specified");
+        }
+        Path index = resourcesDestDir.toPath().resolve(BUNDLE_INDEX);
+        try {
+            Files.createDirectories(index.getParent());
+            List<String> lines = new ArrayList<>(bundleNames.size());
+            for (Map.Entry<String, String> e : bundleNames.entrySet()) {
+                lines.add(e.getKey() + ' ' + e.getValue());
+            }
+            Files.write(index, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write " + index, e);
+        }
+
+        if (project != null) {
+            Resource r = new Resource();
+            r.setDirectory(resourcesDestDir.getAbsolutePath());
+            r.addInclude(BUNDLE_INDEX);
+            project.addResource(r);
+        }
     }
 
     private String addLocalizationUtilityPackageName(final String className) {
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2012, 2018 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -10,14 +11,27 @@
 
 package com.sun.xml.ws;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.aaa.ApropMessages;
+
 /**
  * Hello world!
  *
  */
 public class App 
 {
-    public static void main( String[] args )
+    public static void main( String[] args ) throws IOException
     {
         System.out.println( "Hello World!" );
+        ApropMessages.preload(Arrays.asList(Locale.ROOT, Locale.GERMAN));
+        System.out.println( ApropMessages.HELLO("World") );
+        // a null locale selects the default one, and must not be ambiguous
+        System.out.println( ApropMessages.HELLO(null, "World") );
+        System.out.println( ApropMessages.HELLO(Locale.GERMAN, "World") );
+        ApropMessages.appendHELLO(System.out, "World");
+        System.out.println();
     }
 }
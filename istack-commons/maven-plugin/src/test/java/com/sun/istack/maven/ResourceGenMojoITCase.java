@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -11,6 +12,8 @@
 package com.sun.istack.maven;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -34,4 +37,20 @@ public class ResourceGenMojoITCase {
         f = new File(project, "target/classes/org/aaa/ApropMessages.class");
         Assert.assertTrue("Not found " + f.getAbsolutePath(), f.exists());
     }
+
+    @Test
+    public void testFormattingMethods() throws IOException {
+        File project = new File(PROJECTS_DIR, "sample");
+        String source = Files.readString(
+                new File(project, "target/generated-sources/resources/org/aaa/ApropMessages.java").toPath());
+        Assert.assertTrue(source, source.contains("HELLO(Locale locale, Object arg0)"));
+        Assert.assertTrue(source, source.contains("appendHELLO(Appendable out, Object arg0)"));
+        Assert.assertTrue(source, source.contains("preload(Collection<Locale> locales)"));
+        String index = Files.readString(
+                new File(project, "target/generated-resources/resources/META-INF/istack/localization-bundles").toPath());
+        Assert.assertEquals("org.aaa.aprop org.aaa.ApropMessages", index.trim());
+        // the sample application calling the methods was compiled with the generated class
+        File f = new File(project, "target/classes/com/sun/xml/ws/App.class");
+        Assert.assertTrue("Not found " + f.getAbsolutePath(), f.exists());
+    }
 }
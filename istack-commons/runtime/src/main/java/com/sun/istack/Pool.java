@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 1997, 2023 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -10,6 +11,9 @@
 
 package com.sun.istack;
 
+import com.sun.istack.metrics.Counter;
+import com.sun.istack.metrics.Metrics;
+
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.lang.ref.WeakReference;
 
@@ -67,8 +71,15 @@ public interface Pool<T> {
          */
         @Override
         public final @NotNull T take() {
+            boolean metrics = Metrics.isEnabled();
+            if (metrics) {
+                PoolMetrics.TAKEN.increment();
+            }
             T t = getQueue().poll();
             if(t==null) {
+                if (metrics) {
+                    PoolMetrics.CREATED.increment();
+                }
                 return create();
             }
             return t;
@@ -80,6 +91,9 @@ public interface Pool<T> {
          */
         @Override
         public final void recycle(T t) {
+            if (Metrics.isEnabled()) {
+                PoolMetrics.RECYCLED.increment();
+            }
             getQueue().offer(t);
         }
 
@@ -111,5 +125,12 @@ public interface Pool<T> {
          * @return an object from an empty pool
          */
         protected abstract @NotNull T create();
+
+        // created on first use, the metrics provider is not looked up when Pool is initialized
+        private static final class PoolMetrics {
+            static final Counter TAKEN = Metrics.counter("istack.pool.taken");
+            static final Counter CREATED = Metrics.counter("istack.pool.created");
+            static final Counter RECYCLED = Metrics.counter("istack.pool.recycled");
+        }
     }
 }
@@ -38,8 +38,36 @@ public class SAXException2 extends SAXException {
         super(message, e);
     }
 
+    /**
+     * Creates an exception which does not record the stack trace, for when
+     * the exception is used to unwind the parsing rather than to report an error.
+     *
+     * @param message the message, may be {@code null}
+     * @param e the cause, may be {@code null}
+     * @return the new exception
+     * @since 4.2.1
+     */
+    public static SAXException2 withoutStackTrace(String message, Exception e) {
+        return new Stackless(message, e);
+    }
+
     @Override
     public Throwable getCause() {
         return getException();
     }
+
+    private static final class Stackless extends SAXException2 {
+
+        @Serial
+        private static final long serialVersionUID = 4146541383815733862L;
+
+        Stackless(String message, Exception e) {
+            super(message, e);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
@@ -43,8 +43,37 @@ public class SAXParseException2 extends SAXParseException {
         super(message, publicId, systemId, lineNumber, columnNumber, e);
     }
 
+    /**
+     * Creates an exception which does not record the stack trace, for when
+     * the exception is used to unwind the parsing rather than to report an error.
+     *
+     * @param message the message, may be {@code null}
+     * @param locator location of the error, may be {@code null}
+     * @param e the cause, may be {@code null}
+     * @return the new exception
+     * @since 4.2.1
+     */
+    public static SAXParseException2 withoutStackTrace(String message, Locator locator, Exception e) {
+        return new Stackless(message, locator, e);
+    }
+
     @Override
     public Throwable getCause() {
         return getException();
     }
+
+    private static final class Stackless extends SAXParseException2 {
+
+        @Serial
+        private static final long serialVersionUID = -3126040564962315387L;
+
+        Stackless(String message, Locator locator, Exception e) {
+            super(message, locator, e);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
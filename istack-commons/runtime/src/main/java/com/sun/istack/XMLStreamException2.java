@@ -46,6 +46,32 @@ public class XMLStreamException2 extends XMLStreamException {
         super(msg, location, th);
     }
 
+    /**
+     * Creates an exception which does not record the stack trace, for when
+     * the exception only carries its cause up the stack, or is used to unwind
+     * the parsing rather than to report an error.
+     *
+     * @param th the cause, its string representation is used as the message
+     * @return the new exception
+     * @since 4.2.1
+     */
+    public static XMLStreamException2 withoutStackTrace(Throwable th) {
+        return new Stackless(th);
+    }
+
+    /**
+     * Creates an exception which does not record the stack trace.
+     *
+     * @param msg the message, may be {@code null}
+     * @param th the cause, may be {@code null}
+     * @return the new exception
+     * @see #withoutStackTrace(Throwable)
+     * @since 4.2.1
+     */
+    public static XMLStreamException2 withoutStackTrace(String msg, Throwable th) {
+        return new Stackless(msg, th);
+    }
+
     /**
      * {@link XMLStreamException} doesn't return the correct cause.
      */
@@ -53,4 +79,23 @@ public class XMLStreamException2 extends XMLStreamException {
     public Throwable getCause() {
         return getNestedException();
     }
+
+    private static final class Stackless extends XMLStreamException2 {
+
+        @Serial
+        private static final long serialVersionUID = 7325094856010945126L;
+
+        Stackless(Throwable th) {
+            super(th);
+        }
+
+        Stackless(String msg, Throwable th) {
+            super(msg, th);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
@@ -11,6 +11,9 @@
 
 package com.sun.istack;
 
+import com.sun.istack.metrics.Counter;
+import com.sun.istack.metrics.Histogram;
+import com.sun.istack.metrics.Metrics;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.Locator;
@@ -22,6 +25,8 @@ import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.namespace.QName;
 
+import java.io.Serial;
+
 /**
  * This is a simple utility class that adapts StAX events from an
  * {@link XMLStreamReader} to SAX events on a
@@ -51,6 +56,9 @@ public class XMLStreamReaderToContentHandler {
     // array of the even length of the form { prefix0, uri0, prefix1, uri1, ... }
     private final String[] inscopeNamespaces;
 
+    // set when the last bridge() was stopped by terminate()
+    private boolean terminated;
+
     /**
      * @param staxCore
      *                StAX event source
@@ -89,9 +97,13 @@ public class XMLStreamReaderToContentHandler {
      */
     public void bridge() throws XMLStreamException {
 
+        terminated = false;
+        final boolean metrics = Metrics.isEnabled();
+        final long start = metrics ? System.nanoTime() : 0;
         try {
             // remembers the nest level of elements to know when we are done.
             int depth=0;
+            int events=0;
 
             // if the parser is at the start tag, proceed to the first element
             int event = staxStreamReader.getEventType();
@@ -164,6 +176,7 @@ public class XMLStreamReaderToContentHandler {
                         throw new InternalError("processing event: " + event);
                 }
 
+                events++;
                 event=staxStreamReader.next();
             } while (depth!=0);
 
@@ -172,11 +185,46 @@ public class XMLStreamReaderToContentHandler {
             }
 
             handleEndDocument();
+
+            if (metrics) {
+                BridgeMetrics.EVENTS.add(events);
+                BridgeMetrics.BRIDGE_TIME.record(System.nanoTime() - start);
+            }
+        } catch (Termination e) {
+            terminated = true;
         } catch (SAXException e) {
-            throw new XMLStreamException2(e);
+            // the SAXException already has the stack trace
+            throw XMLStreamException2.withoutStackTrace(e);
         }
     }
 
+    /**
+     * Creates the signal to stop {@link #bridge()} early, to be thrown by the {@link ContentHandler}
+     * once it has seen everything it needs. The exception does not record a stack trace,
+     * so it is cheap to create.
+     *
+     * <p>
+     * {@link #bridge()} then returns normally without firing any further SAX events
+     * (including {@code endPrefixMapping} and {@code endDocument}), leaving the
+     * {@link XMLStreamReader} at the event being handled, and {@link #isTerminated()}
+     * returns {@code true}.
+     *
+     * @return the signal to throw from the {@link ContentHandler}
+     * @since 4.2.1
+     */
+    public static SAXException terminate() {
+        return new Termination();
+    }
+
+    /**
+     * @return {@code true} if the last {@link #bridge()} was stopped by the
+     *      {@link ContentHandler} throwing {@link #terminate()}
+     * @since 4.2.1
+     */
+    public boolean isTerminated() {
+        return terminated;
+    }
+
     private void handleEndDocument() throws SAXException {
         if(fragment)
             return;
@@ -209,83 +257,67 @@ public class XMLStreamReaderToContentHandler {
         saxHandler.startDocument();
     }
 
-    private void handlePI() throws XMLStreamException {
-        try {
-            saxHandler.processingInstruction(
-                staxStreamReader.getPITarget(),
-                staxStreamReader.getPIData());
-        } catch (SAXException e) {
-            throw new XMLStreamException2(e);
-        }
+    private void handlePI() throws SAXException {
+        saxHandler.processingInstruction(
+            staxStreamReader.getPITarget(),
+            staxStreamReader.getPIData());
     }
 
-    private void handleCharacters() throws XMLStreamException {
-        try {
-            saxHandler.characters(
-                staxStreamReader.getTextCharacters(),
-                staxStreamReader.getTextStart(),
-                staxStreamReader.getTextLength() );
-        } catch (SAXException e) {
-            throw new XMLStreamException2(e);
-        }
+    private void handleCharacters() throws SAXException {
+        saxHandler.characters(
+            staxStreamReader.getTextCharacters(),
+            staxStreamReader.getTextStart(),
+            staxStreamReader.getTextLength() );
     }
 
-    private void handleEndElement() throws XMLStreamException {
+    private void handleEndElement() throws SAXException {
         QName qName = staxStreamReader.getName();
 
-        try {
-            String pfix = qName.getPrefix();
-            String rawname = (pfix == null || pfix.isEmpty())
-                    ? qName.getLocalPart()
-                    : pfix + ':' + qName.getLocalPart();
-            // fire endElement
-            saxHandler.endElement(
-                qName.getNamespaceURI(),
-                qName.getLocalPart(),
-                rawname);
-
-            // end namespace bindings
-            int nsCount = staxStreamReader.getNamespaceCount();
-            for (int i = nsCount - 1; i >= 0; i--) {
-                String prefix = staxStreamReader.getNamespacePrefix(i);
-                if (prefix == null) { // true for default namespace
-                    prefix = "";
-                }
-                saxHandler.endPrefixMapping(prefix);
+        String pfix = qName.getPrefix();
+        String rawname = (pfix == null || pfix.isEmpty())
+                ? qName.getLocalPart()
+                : pfix + ':' + qName.getLocalPart();
+        // fire endElement
+        saxHandler.endElement(
+            qName.getNamespaceURI(),
+            qName.getLocalPart(),
+            rawname);
+
+        // end namespace bindings
+        int nsCount = staxStreamReader.getNamespaceCount();
+        for (int i = nsCount - 1; i >= 0; i--) {
+            String prefix = staxStreamReader.getNamespacePrefix(i);
+            if (prefix == null) { // true for default namespace
+                prefix = "";
             }
-        } catch (SAXException e) {
-            throw new XMLStreamException2(e);
+            saxHandler.endPrefixMapping(prefix);
         }
     }
 
-    private void handleStartElement() throws XMLStreamException {
-
-        try {
-            // start namespace bindings
-            int nsCount = staxStreamReader.getNamespaceCount();
-            for (int i = 0; i < nsCount; i++) {
-                saxHandler.startPrefixMapping(
-                    fixNull(staxStreamReader.getNamespacePrefix(i)),
-                    fixNull(staxStreamReader.getNamespaceURI(i)));
-            }
+    private void handleStartElement() throws SAXException {
 
-            // fire startElement
-            QName qName = staxStreamReader.getName();
-            String prefix = qName.getPrefix();
-            String rawname;
-            if(prefix==null || prefix.isEmpty())
-                rawname = qName.getLocalPart();
-            else
-                rawname = prefix + ':' + qName.getLocalPart();
-            Attributes attrs = getAttributes();
-            saxHandler.startElement(
-                qName.getNamespaceURI(),
-                qName.getLocalPart(),
-                rawname,
-                attrs);
-        } catch (SAXException e) {
-            throw new XMLStreamException2(e);
+        // start namespace bindings
+        int nsCount = staxStreamReader.getNamespaceCount();
+        for (int i = 0; i < nsCount; i++) {
+            saxHandler.startPrefixMapping(
+                fixNull(staxStreamReader.getNamespacePrefix(i)),
+                fixNull(staxStreamReader.getNamespaceURI(i)));
         }
+
+        // fire startElement
+        QName qName = staxStreamReader.getName();
+        String prefix = qName.getPrefix();
+        String rawname;
+        if(prefix==null || prefix.isEmpty())
+            rawname = qName.getLocalPart();
+        else
+            rawname = prefix + ':' + qName.getLocalPart();
+        Attributes attrs = getAttributes();
+        saxHandler.startElement(
+            qName.getNamespaceURI(),
+            qName.getLocalPart(),
+            rawname,
+            attrs);
     }
 
     private static String fixNull(String s) {
@@ -377,4 +409,25 @@ public class XMLStreamReaderToContentHandler {
         // no-op ???
         // this event is listed in the javadoc, but not in the spec.
     }
+
+    private static final class Termination extends SAXException {
+
+        @Serial
+        private static final long serialVersionUID = 2916843207409227133L;
+
+        Termination() {
+            super("bridge terminated");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    // created on first use, the metrics provider is not looked up when this class is initialized
+    private static final class BridgeMetrics {
+        static final Counter EVENTS = Metrics.counter("istack.stax2sax.events");
+        static final Histogram BRIDGE_TIME = Metrics.histogram("istack.stax2sax.bridgeNanos");
+    }
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 1997, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -28,6 +29,9 @@ public final class LocalizableMessage implements Localizable {
     private final String _key;
     private final Object[] _args;
 
+    // created once per key by the factory, so Localizer can cache its localized text
+    private final boolean _shared;
+
     @Deprecated
     public LocalizableMessage(String bundlename, String key, Object... args) {
         this(bundlename, null, key, args);
@@ -41,6 +45,18 @@ public final class LocalizableMessage implements Localizable {
         if(args==null)
             args = new Object[0];
         _args = args;
+        _shared = false;
+    }
+
+    /**
+     * Creates a message without arguments shared by all users of the factory.
+     */
+    LocalizableMessage(String bundlename, ResourceBundleSupplier rbSupplier, String key) {
+        _bundlename = bundlename;
+        _rbSupplier = rbSupplier;
+        _key = key;
+        _args = new Object[0];
+        _shared = true;
     }
 
     @Override
@@ -53,6 +69,13 @@ public final class LocalizableMessage implements Localizable {
         return Arrays.copyOf(_args, _args.length);
     }
 
+    /**
+     * @return {@code true} if this message is shared, so its localized text can be cached
+     */
+    boolean isShared() {
+        return _shared;
+    }
+
     @Override
     public String getResourceBundleName() {
         return _bundlename;
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 1997, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -11,28 +12,67 @@
 package com.sun.istack.localization;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author WS Development Team
  */
 public class LocalizableMessageFactory {
 
+    // upper bound of the shared messages kept by one factory
+    private static final int MAX_MESSAGES = 4096;
+
     private final String _bundlename;
     private final ResourceBundleSupplier _rbSupplier;
+    // key -> shared message without arguments
+    private final Map<String, Localizable> _messages;
 
     @Deprecated
     public LocalizableMessageFactory(String bundlename) {
-        _bundlename = bundlename;
-        _rbSupplier = null;
+        this(bundlename, null);
     }
 
     public LocalizableMessageFactory(String bundlename, ResourceBundleSupplier rbSupplier) {
         _bundlename = bundlename;
         _rbSupplier = rbSupplier;
+        _messages = new ConcurrentHashMap<>();
+    }
+
+    String getBundleName() {
+        return _bundlename;
+    }
+
+    ResourceBundleSupplier getResourceBundleSupplier() {
+        return _rbSupplier;
     }
 
+    /**
+     * Gets the message for the given key.
+     *
+     * <p>
+     * Messages without arguments are created only once per key and shared,
+     * their localized text is cached by each {@link Localizer}.
+     *
+     * @param key the key in the resource bundle
+     * @param args the arguments for message formatting
+     * @return the message
+     */
     public Localizable getMessage(String key, Object... args) {
+        if (key != null && (args == null || args.length == 0)) {
+            Localizable m = _messages.get(key);
+            if (m == null) {
+                m = new LocalizableMessage(_bundlename, _rbSupplier, key);
+                if (_messages.size() < MAX_MESSAGES) {
+                    Localizable old = _messages.putIfAbsent(key, m);
+                    if (old != null) {
+                        m = old;
+                    }
+                }
+            }
+            return m;
+        }
         return new LocalizableMessage(_bundlename, _rbSupplier, key, args);
     }
 
@@ -11,37 +11,349 @@
 
 package com.sun.istack.localization;
 
+import com.sun.istack.metrics.Counter;
+import com.sun.istack.metrics.Metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Localizes the {@link Localizable} into a message
  * by using a configured {@link Locale}.
  *
+ * <p>
+ * Resource bundles and keys which cannot be found are remembered for a while,
+ * so that repeated messages from a missing bundle fall back to the default
+ * message without searching for the bundle again. The size and time to live
+ * of this cache can be set with the
+ * {@code com.sun.istack.localization.Localizer.missCacheSize} and
+ * {@code com.sun.istack.localization.Localizer.missCacheTtl} (in milliseconds)
+ * system properties.
+ *
  * @author WS Development Team
  */
 public class Localizer {
 
+    /**
+     * Name of the resource listing the resource bundles referenced by
+     * the generated {@code *Messages} classes, one bundle name per line,
+     * optionally followed by whitespace and the name of the generated class.
+     *
+     * @see #getBundleNames(ClassLoader)
+     * @see #preloadMessages(ClassLoader, Collection)
+     */
+    public static final String BUNDLE_INDEX = "META-INF/istack/localization-bundles";
+
+    private static final int MAX_LOCALES = Integer.getInteger(
+            "com.sun.istack.localization.Localizer.maxLocales", 16);
+
+    // MessageFormat can only format into a StringBuffer, null while in use by the thread
+    private static final ThreadLocal<StringBuffer> FORMAT_BUFFER = ThreadLocal.withInitial(StringBuffer::new);
+    private static final int MAX_FORMAT_BUFFER = 8192;
+    private static final int MAX_FORMATS = 4096;
+    private static final int MAX_LOCALIZED = 4096;
+
+
     private final Locale _locale;
-    private final HashMap<String, ResourceBundle> _resourceBundles;
+    private final Map<String, ResourceBundle> _resourceBundles;
+    private final MissCache _missingBundles;
+    // bundle name -> keys missing in that bundle
+    private final Map<String, MissCache> _missingKeys;
+    private final LongAdder _bundleMisses;
+    private final LongAdder _keyMisses;
+    // localizers for the locales requested through localize(Localizable, Locale),
+    // read without locking, updated while holding the lock of _localizerOrder
+    private final Map<Locale, Localizer> _localizers;
+    // locales of _localizers in the order they were added
+    private final ArrayDeque<Locale> _localizerOrder;
+    // message pattern -> parsed format, cloned for each use as formats are not thread safe
+    private final Map<String, MessageFormat> _formats;
+    // shared message -> its localized text, compared by identity
+    private final Map<Localizable, String> _localized;
 
     public Localizer() {
         this(Locale.getDefault());
     }
 
     public Localizer(Locale l) {
+        this(l, new LongAdder(), new LongAdder());
+    }
+
+    private Localizer(Locale l, LongAdder bundleMisses, LongAdder keyMisses) {
         _locale = l;
-        _resourceBundles = new HashMap<>();
+        _resourceBundles = new ConcurrentHashMap<>();
+        _missingBundles = new MissCache();
+        _missingKeys = new ConcurrentHashMap<>();
+        _bundleMisses = bundleMisses;
+        _keyMisses = keyMisses;
+        _localizers = new ConcurrentHashMap<>();
+        _localizerOrder = new ArrayDeque<>();
+        _formats = new ConcurrentHashMap<>();
+        _localized = new ConcurrentHashMap<>();
     }
 
     public Locale getLocale() {
         return _locale;
     }
 
+    /**
+     * Gets the number of messages which could not be localized because
+     * their resource bundle could not be found.
+     *
+     * @return number of missing bundle lookups
+     */
+    public long getMissingBundleCount() {
+        return _bundleMisses.sum();
+    }
+
+    /**
+     * Gets the number of messages whose key was not found in the resource bundle.
+     *
+     * @return number of missing key lookups
+     */
+    public long getMissingKeyCount() {
+        return _keyMisses.sum();
+    }
+
+    /**
+     * Resolves the given resource bundles for the locale of this localizer
+     * ahead of time, so that the first {@link #localize(Localizable)} call
+     * does not have to search for them.
+     *
+     * <p>
+     * The bundles are looked up by name, with the class loader of this class and
+     * the context class loader, which cannot see the bundles of other named modules.
+     * Use {@link #preload(LocalizableMessageFactory...)} to resolve them the same way
+     * as the messages of the factories do.
+     *
+     * @param bundleNames names of the resource bundles to resolve
+     * @return names of the bundles which could not be found
+     */
+    public Set<String> preload(Collection<String> bundleNames) {
+        Set<String> missing = new LinkedHashSet<>();
+        for (String bundlename : bundleNames) {
+            if (getBundle(bundlename, null, false) == null) {
+                missing.add(bundlename);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Resolves the resource bundles of the messages created by the given factories
+     * for the locale of this localizer ahead of time, using the
+     * {@link LocalizableMessageFactory.ResourceBundleSupplier} of each factory.
+     *
+     * @param factories factories whose resource bundles to resolve
+     * @return names of the bundles which could not be found
+     * @since 4.2.1
+     */
+    public Set<String> preload(LocalizableMessageFactory... factories) {
+        Set<String> missing = new LinkedHashSet<>();
+        for (LocalizableMessageFactory factory : factories) {
+            String bundlename = factory.getBundleName();
+            LocalizableMessageFactory.ResourceBundleSupplier supplier = factory.getResourceBundleSupplier();
+            ResourceBundle bundle;
+            try {
+                bundle = getBundle(bundlename, supplier, false);
+            } catch (MissingResourceException e) {
+                bundle = null;
+            }
+            if (bundle == null) {
+                missing.add(bundlename);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Resolves the resource bundles of the messages created by the given factories
+     * ahead of time for each of the given locales, in the localizers this localizer
+     * uses for {@link #localize(Localizable, Locale)}. This is what the {@code preload}
+     * method of the generated {@code *Messages} classes calls.
+     *
+     * @param locales locales to resolve the bundles for, {@code null} for the locale of this localizer
+     * @param factories factories whose resource bundles to resolve
+     * @return locales for which some of the bundles could not be found
+     * @since 4.2.1
+     */
+    public Set<Locale> preload(Collection<Locale> locales, LocalizableMessageFactory... factories) {
+        Set<Locale> missing = new LinkedHashSet<>();
+        for (Locale locale : locales) {
+            Localizer localizer = locale == null || locale.equals(_locale) ? this : getLocalizer(locale);
+            if (!localizer.preload(factories).isEmpty()) {
+                missing.add(locale);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Resolves the given resource bundles for each of the given locales,
+     * see {@link #preload(Collection)}. The bundles are held by the returned
+     * localizers only, so they should be the ones used to localize messages
+     * afterwards. Other localizers, such as the ones held by the generated
+     * {@code *Messages} classes, still resolve the bundles themselves, though
+     * they may find them in the {@link ResourceBundle} cache. Use
+     * {@link #preloadMessages(ClassLoader, Collection)} to preload those.
+     *
+     * @param bundleNames names of the resource bundles to resolve
+     * @param locales locales to resolve the bundles for
+     * @param parallel if {@code true}, the locales are resolved concurrently
+     * @return localizers holding the resolved bundles, one for each locale
+     */
+    public static List<Localizer> preload(Collection<String> bundleNames, Collection<Locale> locales, boolean parallel) {
+        List<Localizer> localizers = new ArrayList<>(locales.size());
+        for (Locale locale : locales) {
+            localizers.add(new Localizer(locale));
+        }
+        (parallel ? localizers.parallelStream() : localizers.stream())
+                .forEach(localizer -> localizer.preload(bundleNames));
+        return localizers;
+    }
+
+    /**
+     * Lists the resource bundles referenced by the generated {@code *Messages}
+     * classes visible to the given class loader, as recorded in the
+     * {@value #BUNDLE_INDEX} resources.
+     *
+     * @param cl class loader to search, the context class loader is used if {@code null}
+     * @return names of the resource bundles, never {@code null}
+     */
+    public static Set<String> getBundleNames(ClassLoader cl) {
+        return new LinkedHashSet<>(readBundleIndex(cl).keySet());
+    }
+
+    /**
+     * Resolves the resource bundles of the generated {@code *Messages} classes
+     * visible to the given class loader for each of the given locales, in the
+     * localizers of those classes, so that their formatting methods do not have to
+     * search for the bundles. The classes are listed in the {@value #BUNDLE_INDEX}
+     * resources, which only name them when generated with the {@code bundleIndex}
+     * option of version 4.2.1 or later. The classes are initialized and their
+     * {@code preload} method is called, so they have to be accessible to this class.
+     *
+     * @param cl class loader to search, the context class loader is used if {@code null}
+     * @param locales locales to resolve the bundles for
+     * @return names of the classes whose bundles could not be resolved for all locales
+     * @since 4.2.1
+     */
+    public static Set<String> preloadMessages(ClassLoader cl, Collection<Locale> locales) {
+        if (cl == null) {
+            cl = Thread.currentThread().getContextClassLoader();
+        }
+        if (cl == null) {
+            cl = ClassLoader.getSystemClassLoader();
+        }
+        Set<String> failed = new LinkedHashSet<>();
+        for (String className : readBundleIndex(cl).values()) {
+            if (className.isEmpty()) {
+                continue;
+            }
+            try {
+                Class<?> c = Class.forName(className, true, cl);
+                Set<?> missing = (Set<?>) c.getMethod("preload", Collection.class).invoke(null, locales);
+                if (!missing.isEmpty()) {
+                    failed.add(className);
+                }
+            } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+                failed.add(className);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * @return bundle name to the name of the generated class, empty if not recorded
+     */
+    private static Map<String, String> readBundleIndex(ClassLoader cl) {
+        if (cl == null) {
+            cl = Thread.currentThread().getContextClassLoader();
+        }
+        Map<String, String> names = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> indexes = cl == null
+                    ? ClassLoader.getSystemResources(BUNDLE_INDEX)
+                    : cl.getResources(BUNDLE_INDEX);
+            while (indexes.hasMoreElements()) {
+                try (BufferedReader r = new BufferedReader(
+                        new InputStreamReader(indexes.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = r.readLine()) != null) {
+                        line = line.trim();
+                        if (!line.isEmpty() && line.charAt(0) != '#') {
+                            String[] entry = line.split("\\s+", 2);
+                            names.merge(entry[0], entry.length > 1 ? entry[1] : "",
+                                    (known, className) -> known.isEmpty() ? className : known);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return names;
+    }
+
+    /**
+     * Localizes the {@link Localizable} into a message in the given locale.
+     *
+     * <p>
+     * Resource bundles are cached per locale, so a single (typically static)
+     * instance can serve callers with different locales. At most
+     * {@code com.sun.istack.localization.Localizer.maxLocales} (default 16)
+     * locales are cached, the one cached first is dropped when more are requested.
+     *
+     * @param l message to localize
+     * @param locale requested locale, the locale of this localizer if {@code null}
+     * @return localized message
+     */
+    public String localize(Localizable l, Locale locale) {
+        if (locale == null || locale.equals(_locale)) {
+            return localize(l);
+        }
+        return getLocalizer(locale).localize(l);
+    }
+
+    private Localizer getLocalizer(Locale locale) {
+        Localizer localizer = _localizers.get(locale);
+        if (localizer != null) {
+            return localizer;
+        }
+        synchronized (_localizerOrder) {
+            localizer = _localizers.get(locale);
+            if (localizer == null) {
+                while (!_localizerOrder.isEmpty() && _localizerOrder.size() >= MAX_LOCALES) {
+                    _localizers.remove(_localizerOrder.removeFirst());
+                }
+                localizer = new Localizer(locale, _bundleMisses, _keyMisses);
+                _localizers.put(locale, localizer);
+                _localizerOrder.addLast(locale);
+            }
+        }
+        return localizer;
+    }
+
     public String localize(Localizable l) {
         String key = l.getKey();
         if (Objects.equals(key, Localizable.NOT_LOCALIZABLE)) {
@@ -49,83 +361,274 @@ public class Localizer {
             return (String) l.getArguments()[0];
         }
 
-        String bundlename = l.getResourceBundleName();
+        boolean shared = isShared(l);
+        if (shared) {
+            String s = _localized.get(l);
+            if (s != null) {
+                return s;
+            }
+        }
 
-        try {
-            ResourceBundle bundle =
-                    _resourceBundles.get(bundlename);
+        String msg = getMessage(l);
+        if (msg == null) {
+            return getDefaultMessage(l);
+        }
 
-            if (bundle == null) {
-                bundle = l.getResourceBundle(_locale);
-                if (bundle != null) {
-                    _resourceBundles.put(bundlename, bundle);
-                }
-            }
+        String s = getFormat(msg).format(localizeArguments(l));
+        if (shared && _localized.size() < MAX_LOCALIZED) {
+            _localized.put(l, s);
+        }
+        return s;
+    }
 
-            if (bundle == null) {
-                try {
-                    bundle = ResourceBundle.getBundle(bundlename, _locale);
-                } catch (MissingResourceException e) {
-                    // work around a bug in the com.sun.enterprise.deployment.WebBundleArchivist:
-                    //   all files with an extension different from .class (hence all the .properties files)
-                    //   get copied to the top level directory instead of being in the package where they
-                    //   are defined
-                    // so, since we can't find the bundle under its proper name, we look for it under
-                    //   the top-level package
-
-                    int i = bundlename.lastIndexOf('.');
-                    if (i != -1) {
-                        String alternateBundleName =
-                            bundlename.substring(i + 1);
-                        try {
-                            bundle =
-                                ResourceBundle.getBundle(
-                                    alternateBundleName,
-                                    _locale);
-                        } catch (MissingResourceException e2) {
-                            //try context classloader
-                            try {
-                                bundle = ResourceBundle.getBundle(bundlename, _locale, Thread.currentThread().getContextClassLoader());
-                            } catch (MissingResourceException e3) {
-                                // give up
-                                return getDefaultMessage(l);
-                            }
+    /**
+     * Localizes the {@link Localizable} and appends the message to the given
+     * {@link Appendable}, without creating an intermediate {@link String}
+     * for the formatted message.
+     *
+     * @param <A> type of the appendable
+     * @param l message to localize
+     * @param out where to append the message
+     * @return {@code out}
+     * @throws IOException if appending to {@code out} fails
+     */
+    public <A extends Appendable> A localizeTo(Localizable l, A out) throws IOException {
+        String key = l.getKey();
+        if (Objects.equals(key, Localizable.NOT_LOCALIZABLE)) {
+            // this message is not localizable
+            out.append((String) l.getArguments()[0]);
+            return out;
+        }
 
-                        }
-                    }
+        if (isShared(l)) {
+            // the cached text is already a String
+            out.append(localize(l));
+            return out;
+        }
+
+        String msg = getMessage(l);
+        if (msg == null) {
+            out.append(getDefaultMessage(l));
+            return out;
+        }
+
+        MessageFormat format = getFormat(msg);
+        Object[] args = localizeArguments(l);
+        if (out instanceof StringBuffer) {
+            format.format(args, (StringBuffer) out, null);
+        } else {
+            // the arguments may localize messages on this thread while formatting
+            StringBuffer buffer = FORMAT_BUFFER.get();
+            if (buffer == null) {
+                buffer = new StringBuffer();
+            } else {
+                FORMAT_BUFFER.set(null);
+            }
+            try {
+                format.format(args, buffer, null);
+                out.append(buffer);
+            } finally {
+                if (buffer.capacity() <= MAX_FORMAT_BUFFER) {
+                    buffer.setLength(0);
+                    FORMAT_BUFFER.set(buffer);
+                } else {
+                    FORMAT_BUFFER.remove();
                 }
+            }
+        }
+        return out;
+    }
 
-                _resourceBundles.put(bundlename, bundle);
+    /**
+     * @return a format of the pattern for the exclusive use of the caller
+     */
+    private MessageFormat getFormat(String msg) {
+        MessageFormat format = _formats.get(msg);
+        if (format == null) {
+            format = new MessageFormat(msg);
+            if (_formats.size() >= MAX_FORMATS) {
+                return format;
             }
+            MessageFormat cached = _formats.putIfAbsent(msg, format);
+            if (cached != null) {
+                format = cached;
+            }
+        }
+        return (MessageFormat) format.clone();
+    }
+
+    /**
+     * Localizes the {@link Localizable} in the given locale and appends
+     * the message to the given {@link Appendable}.
+     *
+     * @param <A> type of the appendable
+     * @param l message to localize
+     * @param locale requested locale, the locale of this localizer if {@code null}
+     * @param out where to append the message
+     * @return {@code out}
+     * @throws IOException if appending to {@code out} fails
+     * @see #localize(Localizable, Locale)
+     */
+    public <A extends Appendable> A localizeTo(Localizable l, Locale locale, A out) throws IOException {
+        if (locale == null || locale.equals(_locale)) {
+            return localizeTo(l, out);
+        }
+        return getLocalizer(locale).localizeTo(l, out);
+    }
+
+    /**
+     * @return the message pattern for the {@link Localizable}
+     *      or {@code null} if it cannot be found
+     */
+    private String getMessage(Localizable l) {
+        String key = l.getKey();
+        String bundlename = l.getResourceBundleName();
+
+        try {
+            ResourceBundle bundle = getBundle(bundlename, l);
 
             if (bundle == null) {
-                return getDefaultMessage(l);
+                return null;
             }
 
             if (key == null)
                 key = "undefined";
 
-            String msg;
+            String msg = getString(bundle, bundlename, key);
+            if (msg == null) {
+                msg = getString(bundle, bundlename, "undefined");
+            }
+            return msg;
+
+        } catch (MissingResourceException e) {
+            return null;
+        }
+    }
+
+    private static boolean isShared(Localizable l) {
+        return l instanceof LocalizableMessage && ((LocalizableMessage) l).isShared();
+    }
+
+    private Object[] localizeArguments(Localizable l) {
+        // localize all arguments to the given localizable object
+        Object[] args = l.getArguments();
+        for (int i = 0; i < args.length; ++i) {
+            if (args[i] instanceof Localizable)
+                args[i] = localize((Localizable) args[i]);
+        }
+        return args;
+    }
+
+    private String getString(ResourceBundle bundle, String bundlename, String key) {
+        MissCache missing = _missingKeys.get(bundlename);
+        if (missing != null && missing.contains(key)) {
+            _keyMisses.increment();
+            if (Metrics.isEnabled()) {
+                LocalizerMetrics.KEY_MISSES.increment();
+            }
+            return null;
+        }
+        try {
+            return bundle.getString(key);
+        } catch (MissingResourceException e) {
+            _keyMisses.increment();
+            if (Metrics.isEnabled()) {
+                LocalizerMetrics.KEY_MISSES.increment();
+            }
+            _missingKeys.computeIfAbsent(bundlename, n -> new MissCache()).add(key);
+            return null;
+        }
+    }
+
+    private ResourceBundle getBundle(String bundlename, Localizable l) {
+        ResourceBundle bundle = _resourceBundles.get(bundlename);
+        if (bundle != null) {
+            return bundle;
+        }
+        return getBundle(bundlename, l == null ? null : l::getResourceBundle, l != null);
+    }
+
+    /**
+     * @param supplier supplier of the bundle, it is looked up by name if {@code null}
+     *      or the supplier returns {@code null}
+     * @param track whether to remember and count the bundle if it is missing
+     */
+    private ResourceBundle getBundle(String bundlename, LocalizableMessageFactory.ResourceBundleSupplier supplier,
+                                     boolean track) {
+        ResourceBundle bundle = _resourceBundles.get(bundlename);
+        if (bundle != null) {
+            return bundle;
+        }
+
+        if (track && _missingBundles.contains(bundlename)) {
+            _bundleMisses.increment();
+            if (Metrics.isEnabled()) {
+                LocalizerMetrics.BUNDLE_MISSES.increment();
+            }
+            return null;
+        }
+        if (supplier != null) {
             try {
-                msg = bundle.getString(key);
+                bundle = supplier.getResourceBundle(_locale);
             } catch (MissingResourceException e) {
-                // notice that this may throw a MissingResourceException of its own (caught below)
-                msg = bundle.getString("undefined");
+                if (track) {
+                    missingBundle(bundlename);
+                }
+                throw e;
             }
+        }
 
-            // localize all arguments to the given localizable object
-            Object[] args = l.getArguments();
-            for (int i = 0; i < args.length; ++i) {
-                if (args[i] instanceof Localizable)
-                    args[i] = localize((Localizable) args[i]);
-            }
+        if (bundle == null) {
+            try {
+                bundle = ResourceBundle.getBundle(bundlename, _locale);
+            } catch (MissingResourceException e) {
+                // work around a bug in the com.sun.enterprise.deployment.WebBundleArchivist:
+                //   all files with an extension different from .class (hence all the .properties files)
+                //   get copied to the top level directory instead of being in the package where they
+                //   are defined
+                // so, since we can't find the bundle under its proper name, we look for it under
+                //   the top-level package
 
-            return MessageFormat.format(msg, args);
+                int i = bundlename.lastIndexOf('.');
+                if (i != -1) {
+                    String alternateBundleName =
+                        bundlename.substring(i + 1);
+                    try {
+                        bundle =
+                            ResourceBundle.getBundle(
+                                alternateBundleName,
+                                _locale);
+                    } catch (MissingResourceException e2) {
+                        //try context classloader
+                        try {
+                            bundle = ResourceBundle.getBundle(bundlename, _locale, Thread.currentThread().getContextClassLoader());
+                        } catch (MissingResourceException e3) {
+                            // give up
+                            if (track) {
+                                missingBundle(bundlename);
+                            }
+                            return null;
+                        }
 
-        } catch (MissingResourceException e) {
-            return getDefaultMessage(l);
+                    }
+                }
+            }
         }
 
+        if (bundle != null) {
+            _resourceBundles.put(bundlename, bundle);
+        } else if (track) {
+            missingBundle(bundlename);
+        }
+        return bundle;
+    }
+
+    private void missingBundle(String bundlename) {
+        _bundleMisses.increment();
+        if (Metrics.isEnabled()) {
+            LocalizerMetrics.BUNDLE_MISSES.increment();
+        }
+        _missingBundles.add(bundlename);
     }
 
     private String getDefaultMessage(Localizable l) {
@@ -145,4 +648,10 @@ public class Localizer {
         }
         return sb.toString();
     }
+
+    // created on first use, the metrics provider is not looked up when Localizer is initialized
+    private static final class LocalizerMetrics {
+        static final Counter BUNDLE_MISSES = Metrics.counter("istack.localizer.missingBundles");
+        static final Counter KEY_MISSES = Metrics.counter("istack.localizer.missingKeys");
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.localization;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded set of names that recently failed to resolve.
+ *
+ * <p>
+ * Entries expire after a fixed time, so that a bundle or key which becomes
+ * available later (for example through a different context class loader)
+ * is eventually picked up. When the cache is full, expired entries are purged
+ * and new misses are not remembered until there is room again.
+ */
+final class MissCache {
+
+    static final int MAX_SIZE = Integer.getInteger(
+            "com.sun.istack.localization.Localizer.missCacheSize", 128);
+    static final long TTL = TimeUnit.MILLISECONDS.toNanos(Long.getLong(
+            "com.sun.istack.localization.Localizer.missCacheTtl", 60_000L));
+
+    // name -> System.nanoTime() at which the entry expires
+    private final Map<String, Long> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param name name of the bundle or key
+     * @return true if the name failed to resolve recently
+     */
+    boolean contains(String name) {
+        Long expires = entries.get(name);
+        if (expires == null) {
+            return false;
+        }
+        if (System.nanoTime() - expires >= 0) {
+            entries.remove(name, expires);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Remembers the name as missing.
+     * @param name name of the bundle or key
+     */
+    void add(String name) {
+        if (MAX_SIZE <= 0) {
+            return;
+        }
+        if (entries.size() >= MAX_SIZE) {
+            long now = System.nanoTime();
+            entries.values().removeIf(expires -> now - expires >= 0);
+            if (entries.size() >= MAX_SIZE) {
+                return;
+            }
+        }
+        entries.put(name, System.nanoTime() + TTL);
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.logging;
+
+import com.sun.istack.localization.Localizable;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Hands log records over to a background thread, which passes them
+ * to the {@link java.util.logging.Logger} in batches.
+ *
+ * <p>
+ * The records are captured into a preallocated ring of slots, so the
+ * logging thread does not create the {@link LogRecord}. When the ring is full,
+ * the record is either dropped or the logging thread waits for a free slot,
+ * depending on the {@link Logger.OverflowPolicy}.
+ *
+ * <p>
+ * The parameter arrays are copied, but the parameters themselves are formatted
+ * on the background thread, so changes made to mutable parameters after logging
+ * may show in the message. Should the background thread die, the records are
+ * logged synchronously again.
+ */
+final class AsyncDispatcher implements Runnable {
+
+    private static final int BATCH_SIZE = 64;
+
+    private static volatile AsyncDispatcher current;
+
+    private final Slot[] slots;
+    private final Logger.OverflowPolicy policy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private final LongAdder dropped = new LongAdder();
+    // for loggers without handlers, reports the first failure only
+    private final ErrorManager errorManager = new ErrorManager();
+    private final Thread thread;
+    private final Thread shutdownHook;
+
+    // guarded by lock
+    private int head;
+    private int count;
+    private long published;
+    private long processed;
+    private boolean running = true;
+
+    private AsyncDispatcher(int capacity, Logger.OverflowPolicy policy) {
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.policy = policy;
+        this.thread = new Thread(this, "istack-logging");
+        this.thread.setDaemon(true);
+        this.shutdownHook = new Thread(this::stop, "istack-logging-shutdown");
+    }
+
+    /**
+     * @return the active dispatcher or {@code null} if logging is synchronous
+     */
+    static AsyncDispatcher current() {
+        return current;
+    }
+
+    static synchronized void start(int capacity, Logger.OverflowPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        stopCurrent();
+        AsyncDispatcher d = new AsyncDispatcher(capacity, policy);
+        d.thread.start();
+        Runtime.getRuntime().addShutdownHook(d.shutdownHook);
+        current = d;
+    }
+
+    static synchronized void stopCurrent() {
+        AsyncDispatcher d = current;
+        if (d != null) {
+            current = null;
+            try {
+                Runtime.getRuntime().removeShutdownHook(d.shutdownHook);
+            } catch (IllegalStateException e) {
+                // shutdown in progress, the hook stops the dispatcher
+                return;
+            }
+            d.stop();
+        }
+    }
+
+    /**
+     * Queues the record.
+     *
+     * @return {@code false} if the record has to be logged by the caller,
+     *      that is when called from the dispatcher thread itself or after the dispatcher
+     *      was stopped
+     */
+    boolean dispatch(Logger logger, Level level, String sourceMethod, String message,
+                     Object[] params, Throwable thrown, Localizable localizable) {
+        if (Thread.currentThread() == thread || !thread.isAlive()) {
+            // a handler logging on its own, waiting for a free slot would deadlock
+            return false;
+        }
+        lock.lock();
+        try {
+            while (running && count == slots.length) {
+                if (policy == Logger.OverflowPolicy.DROP) {
+                    dropped.increment();
+                    return true;
+                }
+                try {
+                    // the thread may die without being able to signal
+                    notFull.await(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                    return true;
+                }
+                if (!thread.isAlive()) {
+                    return false;
+                }
+            }
+            if (!running) {
+                return false;
+            }
+            Slot s = slots[(head + count) % slots.length];
+            s.logger = logger;
+            s.level = level;
+            s.sourceMethod = sourceMethod;
+            s.message = message;
+            s.params = params == null ? null : params.clone();
+            s.thrown = thrown;
+            s.localizable = localizable;
+            s.millis = System.currentTimeMillis();
+            s.threadId = Thread.currentThread().getId();
+            count++;
+            published++;
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until all records queued so far have been passed to the loggers.
+     */
+    void flush() {
+        lock.lock();
+        try {
+            long target = published;
+            while (processed < target && thread.isAlive()) {
+                drained.await(100, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops accepting records, and waits until the queued ones are logged.
+     */
+    private void stop() {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            dispatchLoop();
+        } finally {
+            // also when dying, later records are then logged synchronously
+            lock.lock();
+            try {
+                running = false;
+                notFull.signalAll();
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void dispatchLoop() {
+        // cleared slots swapped with the taken ones, so records are created outside of the lock
+        Slot[] batch = new Slot[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch[i] = new Slot();
+        }
+        while (true) {
+            int n;
+            lock.lock();
+            try {
+                while (count == 0) {
+                    if (!running) {
+                        return;
+                    }
+                    notEmpty.awaitUninterruptibly();
+                }
+                n = Math.min(count, BATCH_SIZE);
+                for (int i = 0; i < n; i++) {
+                    Slot s = slots[head];
+                    slots[head] = batch[i];
+                    batch[i] = s;
+                    head = (head + 1) % slots.length;
+                }
+                count -= n;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            for (int i = 0; i < n; i++) {
+                Slot s = batch[i];
+                try {
+                    s.logger.getJulLogger().log(s.toRecord());
+                } catch (RuntimeException | LinkageError e) {
+                    // a failing handler or message must not stop the dispatcher
+                    report(s.logger.getJulLogger(), e);
+                }
+                s.clear();
+            }
+
+            lock.lock();
+            try {
+                processed += n;
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Reports a record which could not be logged to the error manager of the first
+     * handler in charge of the logger, as handlers do with their own failures.
+     */
+    private void report(java.util.logging.Logger logger, Throwable failure) {
+        Exception e = failure instanceof Exception ? (Exception) failure : new Exception(failure);
+        for (java.util.logging.Logger l = logger; l != null; l = l.getUseParentHandlers() ? l.getParent() : null) {
+            Handler[] handlers = l.getHandlers();
+            if (handlers.length > 0) {
+                handlers[0].getErrorManager().error(null, e, ErrorManager.GENERIC_FAILURE);
+                return;
+            }
+        }
+        errorManager.error(null, e, ErrorManager.GENERIC_FAILURE);
+    }
+
+    private static final class Slot {
+        Logger logger;
+        Level level;
+        String sourceMethod;
+        String message;
+        Object[] params;
+        Throwable thrown;
+        Localizable localizable;
+        long millis;
+        long threadId;
+
+        LogRecord toRecord() {
+            LogRecord r = logger.createRecord(level, sourceMethod, message, params, thrown, localizable);
+            r.setInstant(Instant.ofEpochMilli(millis));
+            r.setLongThreadID(threadId);
+            return r;
+        }
+
+        void clear() {
+            logger = null;
+            level = null;
+            sourceMethod = null;
+            message = null;
+            params = null;
+            thrown = null;
+            localizable = null;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.logging;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits how many exceptions of the same type are logged from the same call site
+ * within a time window.
+ *
+ * <p>
+ * Each call site and exception type has its own fixed window, which is restarted
+ * by the first occurrence after it elapsed. Occurrences over the limit are only counted,
+ * and the count is handed back with the first occurrence logged in a later window,
+ * so that the logger can report it. A call site which stops throwing never reports its
+ * last count, the total is therefore also kept, see {@link #getSuppressedCount()}.
+ * The counters are updated with atomic operations only.
+ */
+final class ExceptionRateLimiter {
+
+    /**
+     * Maximal number of tracked call sites and exception types. Exceptions
+     * from any further ones are not limited.
+     */
+    static final int MAX_ENTRIES = 1024;
+
+    private final int limit;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final ConcurrentMap<Key, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    ExceptionRateLimiter(int limit, long windowNanos) {
+        this(limit, windowNanos, System::nanoTime);
+    }
+
+    /**
+     * @param clock source of the time in nanoseconds, as {@link System#nanoTime()}
+     */
+    ExceptionRateLimiter(int limit, long windowNanos, LongSupplier clock) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit: " + limit);
+        }
+        if (windowNanos < 1) {
+            throw new IllegalArgumentException("window: " + windowNanos);
+        }
+        this.limit = limit;
+        this.windowNanos = windowNanos;
+        this.clock = clock;
+    }
+
+    /**
+     * Records an occurrence of the exception.
+     *
+     * @param component name of the logging component
+     * @param method name of the logging method, may be {@code null}
+     * @param type class name of the exception
+     * @return {@code -1} if the exception should not be logged, otherwise the number
+     *      of occurrences suppressed since the last one logged from the same call site
+     */
+    long acquire(String component, String method, String type) {
+        Key key = new Key(component, method, type);
+        long now = clock.getAsLong();
+        Window w = windows.get(key);
+        if (w == null) {
+            if (windows.size() >= MAX_ENTRIES) {
+                return 0;
+            }
+            Window created = new Window(now);
+            w = windows.putIfAbsent(key, created);
+            if (w == null) {
+                return 0;
+            }
+        }
+
+        long start = w.start.get();
+        if (now - start >= windowNanos && w.start.compareAndSet(start, now)) {
+            w.count.set(1);
+            return w.suppressed.getAndSet(0);
+        }
+        if (w.count.incrementAndGet() <= limit) {
+            return 0;
+        }
+        w.suppressed.incrementAndGet();
+        suppressed.increment();
+        return -1;
+    }
+
+    /**
+     * @return total number of occurrences suppressed by this limiter,
+     *      including those not reported yet
+     */
+    long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    private static final class Window {
+        final AtomicLong start;
+        final AtomicInteger count = new AtomicInteger(1);
+        final AtomicLong suppressed = new AtomicLong();
+
+        Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+    }
+
+    private static final class Key {
+        private final String component;
+        private final String method;
+        private final String type;
+        private final int hash;
+
+        Key(String component, String method, String type) {
+            this.component = component;
+            this.method = method;
+            this.type = type;
+            this.hash = Objects.hash(component, method, type);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key k = (Key) o;
+            return component.equals(k.component) && Objects.equals(method, k.method) && type.equals(k.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.logging;
+
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.logging.Level;
+
+/**
+ * Emits the flight recorder events of istack loggers.
+ *
+ * <p>
+ * The {@code jdk.jfr} module is optional, none of the event classes is touched
+ * unless {@link #AVAILABLE} is {@code true}.
+ */
+final class JfrSupport {
+
+    /**
+     * Whether the {@code jdk.jfr} module is present in the runtime.
+     */
+    static final boolean AVAILABLE = isAvailable();
+
+    /**
+     * Maximal depth of method calls traced per thread. Calls whose
+     * {@code exiting} was skipped, for example by an exception, are
+     * dropped from the bottom when it is exceeded.
+     */
+    private static final int MAX_DEPTH = 256;
+
+    private static final ThreadLocal<ArrayDeque<Call>> CALLS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private JfrSupport() {
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+            if (jfr.isEmpty()) {
+                return false;
+            }
+            JfrSupport.class.getModule().addReads(jfr.get());
+            return true;
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Starts the event of the method calling {@code logger}.
+     *
+     * @return name of the calling method, or {@code null} if the event is not enabled
+     */
+    static String entering(Logger logger, String component) {
+        MethodCallEvent event = new MethodCallEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        String method = StackHelper.getCallerMethodName();
+        event.component = component;
+        event.method = method;
+        ArrayDeque<Call> calls = CALLS.get();
+        if (calls.size() == MAX_DEPTH) {
+            calls.removeLast();
+        }
+        calls.push(new Call(logger, event));
+        event.begin();
+        return method;
+    }
+
+    /**
+     * Commits the event started last by the {@code entering} of the same logger
+     * in the method calling {@code logger}. The events of the calls started after it
+     * are dropped, their {@code exiting} was skipped.
+     *
+     * @return name of the calling method, or {@code null} if no call is traced
+     */
+    static String exiting(Logger logger) {
+        ArrayDeque<Call> calls = CALLS.get();
+        if (calls.isEmpty()) {
+            // entering() was not traced, or recording started in between
+            return null;
+        }
+        String method = StackHelper.getCallerMethodName();
+        int skipped = 0;
+        for (Call call : calls) {
+            if (call.logger == logger && call.event.method.equals(method)) {
+                for (int i = 0; i < skipped; i++) {
+                    calls.pop();
+                }
+                calls.pop();
+                MethodCallEvent event = call.event;
+                event.end();
+                if (event.shouldCommit()) {
+                    event.commit();
+                }
+                return method;
+            }
+            skipped++;
+        }
+        // entering() of this call was not traced
+        return method;
+    }
+
+    static void logged(String logger, String component, String method, Level level,
+                       String message, Throwable thrown) {
+        LogMessageEvent event = new LogMessageEvent();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.logger = logger;
+        event.component = component;
+        event.method = method;
+        event.level = level.getName();
+        event.message = message;
+        event.thrown = thrown == null ? null : thrown.getClass();
+        event.commit();
+    }
+
+    private static final class Call {
+        final Logger logger;
+        final MethodCallEvent event;
+
+        Call(Logger logger, MethodCallEvent event) {
+            this.logger = logger;
+            this.event = event;
+        }
+    }
+}
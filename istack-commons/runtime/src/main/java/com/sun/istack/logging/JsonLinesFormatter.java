@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.logging;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.logging.Formatter;
+import java.util.logging.LogRecord;
+
+/**
+ * {@link Formatter} writing each {@link LogRecord} as one line of JSON.
+ *
+ * <p>
+ * Every record has the {@code time}, {@code level}, {@code logger}, {@code thread},
+ * {@code method} and {@code message} fields, and {@code thrown} with the stack trace
+ * if there is one. Records of istack loggers in the structured record mode
+ * ({@link StructuredLogRecord}) have {@code component} and {@code subsystem}, and
+ * {@code key} and {@code args} for localizable messages; other records have
+ * {@code class} with the source class name instead.
+ *
+ * <p>
+ * For example, with {@code logging.properties}:
+ * <pre>
+ * java.util.logging.ConsoleHandler.formatter = com.sun.istack.logging.JsonLinesFormatter
+ * </pre>
+ *
+ * @see Logger#setStructuredRecords(boolean)
+ */
+public class JsonLinesFormatter extends Formatter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int MAX_BUFFER = 16384;
+
+    private final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    public JsonLinesFormatter() {
+    }
+
+    @Override
+    public String format(LogRecord record) {
+        StringBuilder sb = buffer.get();
+        sb.setLength(0);
+
+        sb.append("{\"time\":\"").append(record.getInstant()).append('"');
+        field(sb, "level", record.getLevel().getName());
+        field(sb, "logger", record.getLoggerName());
+        sb.append(",\"thread\":").append(record.getLongThreadID());
+        if (record instanceof StructuredLogRecord) {
+            StructuredLogRecord r = (StructuredLogRecord) record;
+            field(sb, "component", r.getComponent());
+            field(sb, "subsystem", r.getSubsystem());
+            field(sb, "method", record.getSourceMethodName());
+            field(sb, "message", formatMessage(record));
+            if (r.getMessageKey() != null) {
+                field(sb, "key", r.getMessageKey());
+                sb.append(",\"args\":[");
+                for (int i = 0; i < r.getMessageArgumentCount(); i++) {
+                    if (i != 0) {
+                        sb.append(',');
+                    }
+                    string(sb, r.getMessageArgument(i));
+                }
+                sb.append(']');
+            }
+        } else {
+            field(sb, "class", record.getSourceClassName());
+            field(sb, "method", record.getSourceMethodName());
+            field(sb, "message", formatMessage(record));
+        }
+        if (record.getThrown() != null) {
+            sb.append(",\"thrown\":\"");
+            try (PrintWriter pw = new PrintWriter(new EscapingWriter(sb))) {
+                record.getThrown().printStackTrace(pw);
+            }
+            sb.append('"');
+        }
+        sb.append("}\n");
+
+        String line = sb.toString();
+        if (sb.capacity() > MAX_BUFFER) {
+            buffer.remove();
+        }
+        return line;
+    }
+
+    private static void field(StringBuilder sb, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        sb.append(",\"").append(name).append("\":");
+        string(sb, value);
+    }
+
+    private static void string(StringBuilder sb, String value) {
+        sb.append('"');
+        escape(sb, value, 0, value.length());
+        sb.append('"');
+    }
+
+    private static void escape(StringBuilder sb, CharSequence s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+    }
+
+    /**
+     * Writes JSON escaped characters to a {@link StringBuilder}.
+     */
+    private static final class EscapingWriter extends Writer {
+
+        private final StringBuilder sb;
+
+        EscapingWriter(StringBuilder sb) {
+            this.sb = sb;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            escape(sb, CharBuffer.wrap(cbuf), off, off + len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            escape(sb, str, off, off + len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
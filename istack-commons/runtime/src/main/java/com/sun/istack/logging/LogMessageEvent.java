@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.logging;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a message logged by an istack logger.
+ * The message is recorded before its parameters are applied.
+ */
+@Name(LogMessageEvent.NAME)
+@Label("Log Message")
+@Description("Message logged by an istack logger")
+@Category({"istack", "Logging"})
+@StackTrace(false)
+final class LogMessageEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.sun.istack.logging.LogMessage";
+
+    @Label("Logger")
+    String logger;
+
+    @Label("Component")
+    String component;
+
+    @Label("Method")
+    String method;
+
+    @Label("Level")
+    String level;
+
+    @Label("Message")
+    String message;
+
+    @Label("Thrown")
+    Class<?> thrown;
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 1997, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -11,9 +12,21 @@
 package com.sun.istack.logging;
 
 import com.sun.istack.NotNull;
+import com.sun.istack.localization.Localizable;
+import com.sun.istack.localization.Localizer;
+import com.sun.istack.metrics.Counter;
+import com.sun.istack.metrics.Metrics;
 
-import java.util.StringTokenizer;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
 
 /**
  * This is a helper class that provides some convenience methods wrapped around the
@@ -32,8 +45,96 @@ public class Logger {
     //
     private static final Level METHOD_CALL_LEVEL_VALUE = Level.FINEST;
     //
+    private static final int OFF_VALUE = Level.OFF.intValue();
+    private static final Runnable LEVEL_CACHE_INVALIDATOR = Logger::invalidateLevelCache;
+    private static volatile boolean levelCaching;
+    private static final AtomicInteger LEVEL_GENERATION = new AtomicInteger();
+    private static volatile boolean structuredRecords =
+            Boolean.getBoolean("com.sun.istack.logging.Logger.structured");
+    private static final Localizer LOCALIZER = new Localizer();
+    private static volatile ExceptionRateLimiter exceptionRateLimiter;
+    private static volatile boolean jfrEvents;
+    //
+    private static final CallerResolution DEFAULT_CALLER_RESOLUTION =
+            "NONE".equals(System.getProperty("com.sun.istack.logging.Logger.callerResolution"))
+                    ? CallerResolution.NONE : CallerResolution.STACK_WALK;
+    //
+    private static final ClassValue<String> SYSTEM_LOGGER_NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return computeSystemLoggerName(type);
+        }
+    };
+    // the loggers of both caller resolution modes are cached separately
+    private static final ClassValue<Logger> STACK_WALK_LOGGERS = loggers(CallerResolution.STACK_WALK);
+    private static final ClassValue<Logger> NO_CALLER_LOGGERS = loggers(CallerResolution.NONE);
+    private static final ClassValue<Map<String, Logger>> CUSTOM_LOGGERS = new ClassValue<Map<String, Logger>>() {
+        @Override
+        protected Map<String, Logger> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    //
+    private final String componentName;
     private final String componentClassName;
     private final java.util.logging.Logger logger;
+    private final CallerResolution callerResolution;
+    // level generation in the high, effective level value in the low 32 bits
+    private volatile long cachedLevel = -1L << 32;
+
+    /**
+     * Defines how the name of the method which called the logger
+     * is found for the log record.
+     *
+     * @see #getLogger(Class, CallerResolution)
+     */
+    public enum CallerResolution {
+        /**
+         * The calling method is looked up on the stack of the current thread.
+         */
+        STACK_WALK,
+        /**
+         * The calling method is not recorded. Use the {@code logp} methods
+         * to pass the method name explicitly where it is needed.
+         */
+        NONE
+    }
+
+    /**
+     * Defines what happens to a log record when the queue of the
+     * asynchronous dispatcher is full.
+     *
+     * @see #startAsync(int, OverflowPolicy)
+     */
+    public enum OverflowPolicy {
+        /**
+         * The record is dropped and counted, see {@link #getDroppedRecordCount()}.
+         */
+        DROP,
+        /**
+         * The logging thread waits until there is room in the queue.
+         */
+        BLOCK
+    }
+
+    static {
+        if (Boolean.getBoolean("com.sun.istack.logging.Logger.cacheLevels")) {
+            setLevelCaching(true);
+        }
+        if (Boolean.getBoolean("com.sun.istack.logging.Logger.async")) {
+            startAsync(Integer.getInteger("com.sun.istack.logging.Logger.asyncCapacity", 8192),
+                    "BLOCK".equals(System.getProperty("com.sun.istack.logging.Logger.asyncOverflow"))
+                            ? OverflowPolicy.BLOCK : OverflowPolicy.DROP);
+        }
+        if (Boolean.getBoolean("com.sun.istack.logging.Logger.jfr")) {
+            setFlightRecorderEvents(true);
+        }
+        int exceptionRateLimit = Integer.getInteger("com.sun.istack.logging.Logger.exceptionRateLimit", 0);
+        if (exceptionRateLimit > 0) {
+            setExceptionRateLimit(exceptionRateLimit,
+                    Long.getLong("com.sun.istack.logging.Logger.exceptionRateWindow", 1000L), TimeUnit.MILLISECONDS);
+        }
+    }
 
     /**
      * Prevents creation of a new instance of this Logger unless used by a subclass.
@@ -41,6 +142,20 @@ public class Logger {
      * @param componentName component name
      */
     protected Logger(final String systemLoggerName, final String componentName) {
+        this(systemLoggerName, componentName, DEFAULT_CALLER_RESOLUTION);
+    }
+
+    /**
+     * Prevents creation of a new instance of this Logger unless used by a subclass.
+     * @param systemLoggerName system logger name
+     * @param componentName component name
+     * @param callerResolution how the calling method is determined. Must not be {@code null}.
+     * @since 4.2.1
+     */
+    protected Logger(final String systemLoggerName, final String componentName,
+                     final @NotNull CallerResolution callerResolution) {
+        this.callerResolution = Objects.requireNonNull(callerResolution);
+        this.componentName = componentName;
         this.componentClassName = "[" + componentName + "] ";
         this.logger = java.util.logging.Logger.getLogger(systemLoggerName);
     }
@@ -51,9 +166,10 @@ public class Logger {
      * {@link #getSystemLoggerName(java.lang.Class)} to generate default logger name.
      * </p>
      * <p>
-     * Since there is no caching implemented, it is advised that the method is called only once
-     * per a class in order to initialize a final static logger variable, which is then used
-     * through the class to perform actual logging tasks.
+     * Logger wrappers are cached per class, so repeated calls return the same instance.
+     * The cache does not prevent the class from being unloaded. The calling method is
+     * determined as set by the {@code com.sun.istack.logging.Logger.callerResolution}
+     * system property, {@link CallerResolution#STACK_WALK} if not set.
      * </p>
      *
      * @param componentClass class of the component that will use the logger instance. Must not be {@code null}.
@@ -61,13 +177,44 @@ public class Logger {
      * @throws NullPointerException if the componentClass parameter is {@code null}.
      */
     public static @NotNull Logger getLogger(final @NotNull Class<?> componentClass) {
-        return new Logger(getSystemLoggerName(componentClass), componentClass.getName());
+        return getLogger(componentClass, DEFAULT_CALLER_RESOLUTION);
+    }
+
+    /**
+     * The factory method returns preconfigured Logger wrapper for the class, which determines
+     * the calling method of the log records as given. Logger wrappers are cached per class
+     * and caller resolution mode, see {@link #getLogger(java.lang.Class)}.
+     *
+     * @param componentClass class of the component that will use the logger instance. Must not be {@code null}.
+     * @param callerResolution caller resolution mode. Must not be {@code null}.
+     * @return logger instance preconfigured for use with the component
+     * @throws NullPointerException if any of the parameters is {@code null}.
+     * @since 4.2.1
+     */
+    public static @NotNull Logger getLogger(final @NotNull Class<?> componentClass,
+                                            final @NotNull CallerResolution callerResolution) {
+        switch (callerResolution) {
+            case STACK_WALK:
+                return STACK_WALK_LOGGERS.get(componentClass);
+            case NONE:
+                return NO_CALLER_LOGGERS.get(componentClass);
+            default:
+                throw new IllegalArgumentException(callerResolution.name());
+        }
+    }
+
+    private static ClassValue<Logger> loggers(final CallerResolution callerResolution) {
+        return new ClassValue<Logger>() {
+            @Override
+            protected Logger computeValue(Class<?> type) {
+                return new Logger(getSystemLoggerName(type), type.getName(), callerResolution);
+            }
+        };
     }
 
     /**
-     * The factory method returns preconfigured Logger wrapper for the class. Since there is no caching implemented,
-     * it is advised that the method is called only once per a class in order to initialize a final static logger variable,
-     * which is then used through the class to perform actual logging tasks.
+     * The factory method returns preconfigured Logger wrapper for the class. Logger wrappers
+     * are cached per class and custom logger name, see {@link #getLogger(java.lang.Class)}.
      *
      * This method should be only used in a special cases when overriding of a default logger name derived from the
      * package of the component class is needed. For all common use cases please use {@link #getLogger(java.lang.Class)}
@@ -81,7 +228,129 @@ public class Logger {
      * @see #getLogger(java.lang.Class)
      */
     public static @NotNull Logger getLogger(final @NotNull String customLoggerName, final @NotNull Class<?> componentClass) {
-        return new Logger(customLoggerName, componentClass.getName());
+        return CUSTOM_LOGGERS.get(componentClass).computeIfAbsent(customLoggerName,
+                name -> new Logger(name, componentClass.getName()));
+    }
+
+    /**
+     * Switches all istack loggers to asynchronous dispatch. Log records are captured
+     * on the logging thread into a queue of the given capacity, and passed to the
+     * {@link java.util.logging.Logger} in batches on a background thread. Any previously
+     * started dispatcher is flushed and stopped first. Queued records are flushed
+     * on JVM shutdown on a best effort basis only: the shutdown hooks run concurrently,
+     * so the {@link java.util.logging.LogManager} may already have closed the handlers.
+     *
+     * <p>
+     * Message parameters are formatted on the background thread. Changes made to
+     * mutable parameters after the logging call returns may therefore show in the message.
+     *
+     * <p>
+     * Asynchronous dispatch can also be enabled at startup with the
+     * {@code com.sun.istack.logging.Logger.async=true} system property, using
+     * {@code com.sun.istack.logging.Logger.asyncCapacity} (default 8192) and
+     * {@code com.sun.istack.logging.Logger.asyncOverflow} ({@code DROP} or {@code BLOCK},
+     * default {@code DROP}).
+     *
+     * @param capacity maximal number of queued records
+     * @param policy what to do when the queue is full. Must not be {@code null}.
+     * @throws IllegalArgumentException if {@code capacity} is less than 1
+     */
+    public static void startAsync(final int capacity, final @NotNull OverflowPolicy policy) {
+        AsyncDispatcher.start(capacity, Objects.requireNonNull(policy));
+    }
+
+    /**
+     * Switches all istack loggers back to synchronous dispatch, after
+     * the queued records are logged.
+     */
+    public static void stopAsync() {
+        AsyncDispatcher.stopCurrent();
+    }
+
+    /**
+     * Waits until the log records queued for asynchronous dispatch so far are logged.
+     * Does nothing if asynchronous dispatch is not enabled.
+     */
+    public static void flush() {
+        AsyncDispatcher d = AsyncDispatcher.current();
+        if (d != null) {
+            d.flush();
+        }
+    }
+
+    /**
+     * @return number of log records dropped by the currently running
+     *      asynchronous dispatcher because its queue was full
+     */
+    public static long getDroppedRecordCount() {
+        AsyncDispatcher d = AsyncDispatcher.current();
+        return d == null ? 0 : d.getDroppedCount();
+    }
+
+    /**
+     * Switches all istack loggers to emitting JDK Flight Recorder events, in addition
+     * to the {@link java.util.logging} records. Each logged message emits a
+     * {@code com.sun.istack.logging.LogMessage} event, and each pair of {@link #entering()}
+     * and {@link #exiting()} calls a {@code com.sun.istack.logging.MethodCall} event with
+     * the duration and the method of the call, the stack trace only if enabled in
+     * the recording settings. Method calls are traced no matter
+     * what the level of the logger is; the events cost next to nothing unless they are
+     * enabled in a running recording.
+     *
+     * <p>
+     * The events can also be enabled at startup with the
+     * {@code com.sun.istack.logging.Logger.jfr} system property. They require the
+     * {@code jdk.jfr} module, which is not resolved by default when the istack
+     * runtime is used as a named module ({@code --add-modules jdk.jfr}).
+     *
+     * @param enabled {@code true} to emit the events
+     * @return {@code true} if the events are emitted, that is {@code enabled} is {@code true}
+     *      and the {@code jdk.jfr} module is available
+     */
+    public static boolean setFlightRecorderEvents(final boolean enabled) {
+        jfrEvents = enabled && JfrSupport.AVAILABLE;
+        return jfrEvents;
+    }
+
+    /**
+     * Limits how often the {@code logSevereException} and {@code logException} methods
+     * of all istack loggers log exceptions of the same type from the same call site
+     * (component and calling method). At most {@code limit} such exceptions are logged
+     * per {@code window}; the rest is counted, and the count is logged as
+     * "<i>type</i> ... repeated <i>n</i> times" before the next exception logged
+     * from that call site in a later window. The count of a call site which stops
+     * throwing is therefore never logged; the total is available from
+     * {@link #getSuppressedExceptionCount()} and the
+     * {@code istack.logging.suppressedExceptions} metrics counter.
+     *
+     * <p>
+     * Rate limiting can also be enabled at startup with the
+     * {@code com.sun.istack.logging.Logger.exceptionRateLimit} system property, using
+     * {@code com.sun.istack.logging.Logger.exceptionRateWindow} in milliseconds (default 1000).
+     *
+     * @param limit maximal number of exceptions logged per window, {@code 0} or less
+     *      to log all exceptions
+     * @param window length of the window
+     * @param unit unit of {@code window}. Must not be {@code null}.
+     * @throws IllegalArgumentException if {@code limit} is positive and {@code window} is not
+     */
+    public static void setExceptionRateLimit(final int limit, final long window, final @NotNull TimeUnit unit) {
+        setExceptionRateLimiter(limit > 0 ? new ExceptionRateLimiter(limit, unit.toNanos(window)) : null);
+    }
+
+    static void setExceptionRateLimiter(final ExceptionRateLimiter limiter) {
+        exceptionRateLimiter = limiter;
+    }
+
+    /**
+     * @return number of exceptions suppressed by the current exception rate limit,
+     *      including those whose count was not logged yet
+     * @see #setExceptionRateLimit(int, long, TimeUnit)
+     * @since 4.2.1
+     */
+    public static long getSuppressedExceptionCount() {
+        final ExceptionRateLimiter limiter = exceptionRateLimiter;
+        return limiter == null ? 0 : limiter.getSuppressedCount();
     }
 
     /**
@@ -90,233 +359,831 @@ public class Logger {
      * @return system logger name for the given {@code componentClass} instance
      */
     static final String getSystemLoggerName(@NotNull Class<?> componentClass) {
-        StringBuilder sb = new StringBuilder(componentClass.getPackage().getName());
-        final int lastIndexOfWsPackage = sb.lastIndexOf(ROOT_WS_PACKAGE);
-        if (lastIndexOfWsPackage > -1) {
-            sb.replace(0, lastIndexOfWsPackage + ROOT_WS_PACKAGE.length(), "");
-
-            StringTokenizer st = new StringTokenizer(sb.toString(), ".");
-            sb = new StringBuilder(WS_LOGGING_SUBSYSTEM_NAME_ROOT).append(".");
-            if (st.hasMoreTokens()) {
-                String token = st.nextToken();
-                if ("api".equals(token)) {
-                    token = st.nextToken();
-                }
-                sb.append(token);
+        return SYSTEM_LOGGER_NAMES.get(componentClass);
+    }
+
+    private static String computeSystemLoggerName(Class<?> componentClass) {
+        String packageName = componentClass.getPackageName();
+        final int lastIndexOfWsPackage = packageName.lastIndexOf(ROOT_WS_PACKAGE);
+        if (lastIndexOfWsPackage < 0) {
+            return packageName;
+        }
+
+        // first package segment after com.sun.xml.ws., skipping "api"
+        int start = lastIndexOfWsPackage + ROOT_WS_PACKAGE.length();
+        int end = packageName.indexOf('.', start);
+        String token = end < 0 ? packageName.substring(start) : packageName.substring(start, end);
+        if ("api".equals(token)) {
+            if (end < 0) {
+                // nothing follows "api"
+                throw new NoSuchElementException();
             }
+            start = end + 1;
+            end = packageName.indexOf('.', start);
+            token = end < 0 ? packageName.substring(start) : packageName.substring(start, end);
+        }
+        return WS_LOGGING_SUBSYSTEM_NAME_ROOT + "." + token;
+    }
+
+    /**
+     * Returns how the calling method is determined for the log records.
+     *
+     * @return caller resolution mode
+     * @see #getLogger(Class, CallerResolution)
+     * @since 4.2.1
+     */
+    public @NotNull CallerResolution getCallerResolution() {
+        return callerResolution;
+    }
+
+    private String getCallerMethodName(final String known) {
+        if (callerResolution != CallerResolution.STACK_WALK) {
+            return null;
+        }
+        return known != null ? known : StackHelper.getCallerMethodName();
+    }
+
+    private String getCallerMethodName() {
+        return callerResolution == CallerResolution.STACK_WALK ? StackHelper.getCallerMethodName() : null;
+    }
+
+    private void doLog(final Level level, final String method, final String message) {
+        dispatch(level, method, message, null, null, null);
+    }
+
+    private void doLog(final Level level, final String method, final String message, final Object param1) {
+        dispatch(level, method, message, new Object[] {param1}, null, null);
+    }
+
+    private void doLog(final Level level, final String method, final String message, final Object[] params) {
+        dispatch(level, method, message, params, null, null);
+    }
+
+    private void doLog(final Level level, final String method, final String message, final Throwable thrown) {
+        dispatch(level, method, message, null, thrown, null);
+    }
+
+    private void dispatch(final Level level, final String method, final String message,
+                          final Object[] params, final Throwable thrown, final Localizable localizable) {
+        if (Metrics.isEnabled()) {
+            LoggerMetrics.RECORDS.increment();
+        }
+        if (jfrEvents) {
+            JfrSupport.logged(logger.getName(), componentName, method, level, message, thrown);
+        }
+        AsyncDispatcher async = AsyncDispatcher.current();
+        if (async != null && async.dispatch(this, level, method, message, params, thrown, localizable)) {
+            return;
         }
+        if (structuredRecords) {
+            logger.log(createRecord(level, method, message, params, thrown, localizable));
+        } else if (thrown != null) {
+            logger.logp(level, componentClassName, method, message, thrown);
+        } else {
+            logger.logp(level, componentClassName, method, message, params);
+        }
+    }
+
+    /**
+     * Creates the record the same way {@link java.util.logging.Logger#logp} does,
+     * or a {@link StructuredLogRecord} in the structured record mode.
+     */
+    LogRecord createRecord(final Level level, final String method, final String message,
+                           final Object[] params, final Throwable thrown, final Localizable localizable) {
+        LogRecord record = structuredRecords
+                ? new StructuredLogRecord(level, message, componentName, logger.getName(), localizable)
+                : new LogRecord(level, message);
+        record.setLoggerName(logger.getName());
+        record.setResourceBundle(logger.getResourceBundle());
+        record.setResourceBundleName(logger.getResourceBundleName());
+        record.setSourceClassName(componentClassName);
+        record.setSourceMethodName(method);
+        record.setParameters(params);
+        record.setThrown(thrown);
+        return record;
+    }
 
-        return sb.toString();
+    java.util.logging.Logger getJulLogger() {
+        return logger;
+    }
+
+    /**
+     * Switches all istack loggers to creating {@link StructuredLogRecord}s, which carry
+     * the component, the subsystem, the calling method, and the key and arguments of
+     * {@link Localizable} messages as separate fields. Use {@link JsonLinesFormatter}
+     * to write them out as JSON lines.
+     *
+     * <p>
+     * The structured record mode can also be enabled at startup with the
+     * {@code com.sun.istack.logging.Logger.structured} system property.
+     *
+     * @param enabled {@code true} to create structured records
+     */
+    public static void setStructuredRecords(final boolean enabled) {
+        structuredRecords = enabled;
+    }
+
+    /**
+     * @return {@code true} if istack loggers create {@link StructuredLogRecord}s
+     */
+    public static boolean isStructuredRecords() {
+        return structuredRecords;
+    }
+
+    /**
+     * Logs the message with an explicitly given calling method,
+     * no matter what the {@link CallerResolution caller resolution} mode is.
+     *
+     * @param level logging level
+     * @param method name of the calling method
+     * @param message the message
+     */
+    public void logp(final Level level, final String method, final String message) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        doLog(level, method, message);
+    }
+
+    /**
+     * Logs the message with an explicitly given calling method,
+     * no matter what the {@link CallerResolution caller resolution} mode is.
+     *
+     * @param level logging level
+     * @param method name of the calling method
+     * @param message the message
+     * @param params parameters to the message
+     */
+    public void logp(final Level level, final String method, final String message, Object[] params) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        doLog(level, method, message, params);
+    }
+
+    /**
+     * Logs the message with an explicitly given calling method,
+     * no matter what the {@link CallerResolution caller resolution} mode is.
+     *
+     * @param level logging level
+     * @param method name of the calling method
+     * @param message the message
+     * @param thrown throwable associated with the message
+     */
+    public void logp(final Level level, final String method, final String message, final Throwable thrown) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        doLog(level, method, message, thrown);
     }
 
     public void log(final Level level, final String message) {
-        if (!this.logger.isLoggable(level)) {
+        if (!isEnabled(level)) {
             return;
         }
-        logger.logp(level, componentClassName, StackHelper.getCallerMethodName(), message);
+        doLog(level, getCallerMethodName(), message);
     }
 
     public void log(final Level level, final String message, Object param1) {
-        if (!this.logger.isLoggable(level)) {
+        if (!isEnabled(level)) {
             return;
         }
-        logger.logp(level, componentClassName, StackHelper.getCallerMethodName(), message, param1);
+        doLog(level, getCallerMethodName(), message, param1);
     }
 
     public void log(final Level level, final String message, Object[] params) {
-        if (!this.logger.isLoggable(level)) {
+        if (!isEnabled(level)) {
             return;
         }
-        logger.logp(level, componentClassName, StackHelper.getCallerMethodName(), message, params);
+        doLog(level, getCallerMethodName(), message, params);
     }
 
     public void log(final Level level, final String message, final Throwable thrown) {
-        if (!this.logger.isLoggable(level)) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        doLog(level, getCallerMethodName(), message, thrown);
+    }
+
+    public void log(final Level level, final String message, final Object param1, final Object param2) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        doLog(level, getCallerMethodName(), message, new Object[] {param1, param2});
+    }
+
+    public void log(final Level level, final String message, final Object param1, final Object param2, final Object param3) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        doLog(level, getCallerMethodName(), message, new Object[] {param1, param2, param3});
+    }
+
+    public void log(final Level level, final String message, final Object param1, final Object param2, final Object param3, final Object param4) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        doLog(level, getCallerMethodName(), message, new Object[] {param1, param2, param3, param4});
+    }
+
+    /**
+     * Logs the localized message. In the structured record mode, the key and the arguments
+     * of the message are kept in the {@link StructuredLogRecord}.
+     *
+     * @param level logging level
+     * @param message the message
+     */
+    public void log(final Level level, final Localizable message) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        dispatch(level, getCallerMethodName(), LOCALIZER.localize(message), null, null, message);
+    }
+
+    /**
+     * Logs the localized message. In the structured record mode, the key and the arguments
+     * of the message are kept in the {@link StructuredLogRecord}.
+     *
+     * @param level logging level
+     * @param message the message
+     * @param thrown throwable associated with the message
+     */
+    public void log(final Level level, final Localizable message, final Throwable thrown) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        dispatch(level, getCallerMethodName(), LOCALIZER.localize(message), null, thrown, message);
+    }
+
+    /**
+     * Logs the message of the supplier, which is only called if the level is enabled.
+     * The lazy variants are named differently from the {@code String} ones, so that
+     * passing {@code null} as the message is not ambiguous.
+     *
+     * @param level logging level
+     * @param messageSupplier supplier of the message
+     * @since 4.2.1
+     */
+    public void logLazy(final Level level, final Supplier<String> messageSupplier) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        doLog(level, getCallerMethodName(), messageSupplier.get());
+    }
+
+    public void logLazy(final Level level, final Supplier<String> messageSupplier, final Throwable thrown) {
+        if (!isEnabled(level)) {
             return;
         }
-        logger.logp(level, componentClassName, StackHelper.getCallerMethodName(), message, thrown);
+        doLog(level, getCallerMethodName(), messageSupplier.get(), thrown);
     }
 
     public void finest(final String message) {
-        if (!this.logger.isLoggable(Level.FINEST)) {
+        if (!isEnabled(Level.FINEST)) {
             return;
         }
-        logger.logp(Level.FINEST, componentClassName, StackHelper.getCallerMethodName(), message);
+        doLog(Level.FINEST, getCallerMethodName(), message);
     }
 
     public void finest(final String message, Object[] params) {
-        if (!this.logger.isLoggable(Level.FINEST)) {
+        if (!isEnabled(Level.FINEST)) {
             return;
         }
-        logger.logp(Level.FINEST, componentClassName, StackHelper.getCallerMethodName(), message, params);
+        doLog(Level.FINEST, getCallerMethodName(), message, params);
     }
     
     public void finest(final String message, final Throwable thrown) {
-        if (!this.logger.isLoggable(Level.FINEST)) {
+        if (!isEnabled(Level.FINEST)) {
+            return;
+        }
+        doLog(Level.FINEST, getCallerMethodName(), message, thrown);
+    }
+
+    public void finest(final String message, final Object param1) {
+        if (!isEnabled(Level.FINEST)) {
+            return;
+        }
+        doLog(Level.FINEST, getCallerMethodName(), message, param1);
+    }
+
+    public void finest(final String message, final Object param1, final Object param2) {
+        if (!isEnabled(Level.FINEST)) {
+            return;
+        }
+        doLog(Level.FINEST, getCallerMethodName(), message, new Object[] {param1, param2});
+    }
+
+    public void finest(final String message, final Object param1, final Object param2, final Object param3) {
+        if (!isEnabled(Level.FINEST)) {
+            return;
+        }
+        doLog(Level.FINEST, getCallerMethodName(), message, new Object[] {param1, param2, param3});
+    }
+
+    public void finest(final String message, final Object param1, final Object param2, final Object param3, final Object param4) {
+        if (!isEnabled(Level.FINEST)) {
             return;
         }
-        logger.logp(Level.FINEST, componentClassName, StackHelper.getCallerMethodName(), message, thrown);
+        doLog(Level.FINEST, getCallerMethodName(), message, new Object[] {param1, param2, param3, param4});
+    }
+
+    public void finestLazy(final Supplier<String> messageSupplier) {
+        if (!isEnabled(Level.FINEST)) {
+            return;
+        }
+        doLog(Level.FINEST, getCallerMethodName(), messageSupplier.get());
     }
 
     public void finer(final String message) {
-        if (!this.logger.isLoggable(Level.FINER)) {
+        if (!isEnabled(Level.FINER)) {
             return;
         }
-        logger.logp(Level.FINER, componentClassName, StackHelper.getCallerMethodName(), message);
+        doLog(Level.FINER, getCallerMethodName(), message);
     }
 
     public void finer(final String message, Object[] params) {
-        if (!this.logger.isLoggable(Level.FINER)) {
+        if (!isEnabled(Level.FINER)) {
             return;
         }
-        logger.logp(Level.FINER, componentClassName, StackHelper.getCallerMethodName(), message, params);
+        doLog(Level.FINER, getCallerMethodName(), message, params);
     }
 
     public void finer(final String message, final Throwable thrown) {
-        if (!this.logger.isLoggable(Level.FINER)) {
+        if (!isEnabled(Level.FINER)) {
             return;
         }
-        logger.logp(Level.FINER, componentClassName, StackHelper.getCallerMethodName(), message, thrown);
+        doLog(Level.FINER, getCallerMethodName(), message, thrown);
+    }
+
+    public void finer(final String message, final Object param1) {
+        if (!isEnabled(Level.FINER)) {
+            return;
+        }
+        doLog(Level.FINER, getCallerMethodName(), message, param1);
+    }
+
+    public void finer(final String message, final Object param1, final Object param2) {
+        if (!isEnabled(Level.FINER)) {
+            return;
+        }
+        doLog(Level.FINER, getCallerMethodName(), message, new Object[] {param1, param2});
+    }
+
+    public void finer(final String message, final Object param1, final Object param2, final Object param3) {
+        if (!isEnabled(Level.FINER)) {
+            return;
+        }
+        doLog(Level.FINER, getCallerMethodName(), message, new Object[] {param1, param2, param3});
+    }
+
+    public void finer(final String message, final Object param1, final Object param2, final Object param3, final Object param4) {
+        if (!isEnabled(Level.FINER)) {
+            return;
+        }
+        doLog(Level.FINER, getCallerMethodName(), message, new Object[] {param1, param2, param3, param4});
+    }
+
+    public void finerLazy(final Supplier<String> messageSupplier) {
+        if (!isEnabled(Level.FINER)) {
+            return;
+        }
+        doLog(Level.FINER, getCallerMethodName(), messageSupplier.get());
     }
 
     public void fine(final String message) {
-        if (!this.logger.isLoggable(Level.FINE)) {
+        if (!isEnabled(Level.FINE)) {
             return;
         }
-        logger.logp(Level.FINE, componentClassName, StackHelper.getCallerMethodName(), message);
+        doLog(Level.FINE, getCallerMethodName(), message);
     }
 
     public void fine(final String message, final Throwable thrown) {
-        if (!this.logger.isLoggable(Level.FINE)) {
+        if (!isEnabled(Level.FINE)) {
+            return;
+        }
+        doLog(Level.FINE, getCallerMethodName(), message, thrown);
+    }
+
+    public void fine(final String message, Object[] params) {
+        if (!isEnabled(Level.FINE)) {
+            return;
+        }
+        doLog(Level.FINE, getCallerMethodName(), message, params);
+    }
+
+    public void fine(final String message, final Object param1) {
+        if (!isEnabled(Level.FINE)) {
+            return;
+        }
+        doLog(Level.FINE, getCallerMethodName(), message, param1);
+    }
+
+    public void fine(final String message, final Object param1, final Object param2) {
+        if (!isEnabled(Level.FINE)) {
             return;
         }
-        logger.logp(Level.FINE, componentClassName, StackHelper.getCallerMethodName(), message, thrown);
+        doLog(Level.FINE, getCallerMethodName(), message, new Object[] {param1, param2});
+    }
+
+    public void fine(final String message, final Object param1, final Object param2, final Object param3) {
+        if (!isEnabled(Level.FINE)) {
+            return;
+        }
+        doLog(Level.FINE, getCallerMethodName(), message, new Object[] {param1, param2, param3});
+    }
+
+    public void fine(final String message, final Object param1, final Object param2, final Object param3, final Object param4) {
+        if (!isEnabled(Level.FINE)) {
+            return;
+        }
+        doLog(Level.FINE, getCallerMethodName(), message, new Object[] {param1, param2, param3, param4});
+    }
+
+    public void fineLazy(final Supplier<String> messageSupplier) {
+        if (!isEnabled(Level.FINE)) {
+            return;
+        }
+        doLog(Level.FINE, getCallerMethodName(), messageSupplier.get());
     }
 
     public void info(final String message) {
-        if (!this.logger.isLoggable(Level.INFO)) {
+        if (!isEnabled(Level.INFO)) {
             return;
         }
-        logger.logp(Level.INFO, componentClassName, StackHelper.getCallerMethodName(), message);
+        doLog(Level.INFO, getCallerMethodName(), message);
     }
 
     public void info(final String message, Object[] params) {
-        if (!this.logger.isLoggable(Level.INFO)) {
+        if (!isEnabled(Level.INFO)) {
             return;
         }
-        logger.logp(Level.INFO, componentClassName, StackHelper.getCallerMethodName(), message, params);
+        doLog(Level.INFO, getCallerMethodName(), message, params);
     }
 
     public void info(final String message, final Throwable thrown) {
-        if (!this.logger.isLoggable(Level.INFO)) {
+        if (!isEnabled(Level.INFO)) {
+            return;
+        }
+        doLog(Level.INFO, getCallerMethodName(), message, thrown);
+    }
+
+    public void info(final String message, final Object param1) {
+        if (!isEnabled(Level.INFO)) {
+            return;
+        }
+        doLog(Level.INFO, getCallerMethodName(), message, param1);
+    }
+
+    public void info(final String message, final Object param1, final Object param2) {
+        if (!isEnabled(Level.INFO)) {
+            return;
+        }
+        doLog(Level.INFO, getCallerMethodName(), message, new Object[] {param1, param2});
+    }
+
+    public void info(final String message, final Object param1, final Object param2, final Object param3) {
+        if (!isEnabled(Level.INFO)) {
+            return;
+        }
+        doLog(Level.INFO, getCallerMethodName(), message, new Object[] {param1, param2, param3});
+    }
+
+    public void info(final String message, final Object param1, final Object param2, final Object param3, final Object param4) {
+        if (!isEnabled(Level.INFO)) {
+            return;
+        }
+        doLog(Level.INFO, getCallerMethodName(), message, new Object[] {param1, param2, param3, param4});
+    }
+
+    public void infoLazy(final Supplier<String> messageSupplier) {
+        if (!isEnabled(Level.INFO)) {
             return;
         }
-        logger.logp(Level.INFO, componentClassName, StackHelper.getCallerMethodName(), message, thrown);
+        doLog(Level.INFO, getCallerMethodName(), messageSupplier.get());
     }
 
     public void config(final String message) {
-        if (!this.logger.isLoggable(Level.CONFIG)) {
+        if (!isEnabled(Level.CONFIG)) {
             return;
         }
-        logger.logp(Level.CONFIG, componentClassName, StackHelper.getCallerMethodName(), message);
+        doLog(Level.CONFIG, getCallerMethodName(), message);
     }
 
     public void config(final String message, Object[] params) {
-        if (!this.logger.isLoggable(Level.CONFIG)) {
+        if (!isEnabled(Level.CONFIG)) {
             return;
         }
-        logger.logp(Level.CONFIG, componentClassName, StackHelper.getCallerMethodName(), message, params);
+        doLog(Level.CONFIG, getCallerMethodName(), message, params);
     }
 
     public void config(final String message, final Throwable thrown) {
-        if (!this.logger.isLoggable(Level.CONFIG)) {
+        if (!isEnabled(Level.CONFIG)) {
+            return;
+        }
+        doLog(Level.CONFIG, getCallerMethodName(), message, thrown);
+    }
+
+    public void config(final String message, final Object param1) {
+        if (!isEnabled(Level.CONFIG)) {
+            return;
+        }
+        doLog(Level.CONFIG, getCallerMethodName(), message, param1);
+    }
+
+    public void config(final String message, final Object param1, final Object param2) {
+        if (!isEnabled(Level.CONFIG)) {
+            return;
+        }
+        doLog(Level.CONFIG, getCallerMethodName(), message, new Object[] {param1, param2});
+    }
+
+    public void config(final String message, final Object param1, final Object param2, final Object param3) {
+        if (!isEnabled(Level.CONFIG)) {
+            return;
+        }
+        doLog(Level.CONFIG, getCallerMethodName(), message, new Object[] {param1, param2, param3});
+    }
+
+    public void config(final String message, final Object param1, final Object param2, final Object param3, final Object param4) {
+        if (!isEnabled(Level.CONFIG)) {
             return;
         }
-        logger.logp(Level.CONFIG, componentClassName, StackHelper.getCallerMethodName(), message, thrown);
+        doLog(Level.CONFIG, getCallerMethodName(), message, new Object[] {param1, param2, param3, param4});
+    }
+
+    public void configLazy(final Supplier<String> messageSupplier) {
+        if (!isEnabled(Level.CONFIG)) {
+            return;
+        }
+        doLog(Level.CONFIG, getCallerMethodName(), messageSupplier.get());
     }
 
     public void warning(final String message) {
-        if (!this.logger.isLoggable(Level.WARNING)) {
+        if (!isEnabled(Level.WARNING)) {
             return;
         }
-        logger.logp(Level.WARNING, componentClassName, StackHelper.getCallerMethodName(), message);
+        doLog(Level.WARNING, getCallerMethodName(), message);
     }
 
     public void warning(final String message, Object[] params) {
-        if (!this.logger.isLoggable(Level.WARNING)) {
+        if (!isEnabled(Level.WARNING)) {
             return;
         }
-        logger.logp(Level.WARNING, componentClassName, StackHelper.getCallerMethodName(), message, params);
+        doLog(Level.WARNING, getCallerMethodName(), message, params);
     }
 
     public void warning(final String message, final Throwable thrown) {
-        if (!this.logger.isLoggable(Level.WARNING)) {
+        if (!isEnabled(Level.WARNING)) {
+            return;
+        }
+        doLog(Level.WARNING, getCallerMethodName(), message, thrown);
+    }
+
+    public void warning(final String message, final Object param1) {
+        if (!isEnabled(Level.WARNING)) {
             return;
         }
-        logger.logp(Level.WARNING, componentClassName, StackHelper.getCallerMethodName(), message, thrown);
+        doLog(Level.WARNING, getCallerMethodName(), message, param1);
+    }
+
+    public void warning(final String message, final Object param1, final Object param2) {
+        if (!isEnabled(Level.WARNING)) {
+            return;
+        }
+        doLog(Level.WARNING, getCallerMethodName(), message, new Object[] {param1, param2});
+    }
+
+    public void warning(final String message, final Object param1, final Object param2, final Object param3) {
+        if (!isEnabled(Level.WARNING)) {
+            return;
+        }
+        doLog(Level.WARNING, getCallerMethodName(), message, new Object[] {param1, param2, param3});
+    }
+
+    public void warning(final String message, final Object param1, final Object param2, final Object param3, final Object param4) {
+        if (!isEnabled(Level.WARNING)) {
+            return;
+        }
+        doLog(Level.WARNING, getCallerMethodName(), message, new Object[] {param1, param2, param3, param4});
+    }
+
+    public void warningLazy(final Supplier<String> messageSupplier) {
+        if (!isEnabled(Level.WARNING)) {
+            return;
+        }
+        doLog(Level.WARNING, getCallerMethodName(), messageSupplier.get());
     }
 
     public void severe(final String message) {
-        if (!this.logger.isLoggable(Level.SEVERE)) {
+        if (!isEnabled(Level.SEVERE)) {
             return;
         }
-        logger.logp(Level.SEVERE, componentClassName, StackHelper.getCallerMethodName(), message);
+        doLog(Level.SEVERE, getCallerMethodName(), message);
     }
 
     public void severe(final String message, Object[] params) {
-        if (!this.logger.isLoggable(Level.SEVERE)) {
+        if (!isEnabled(Level.SEVERE)) {
             return;
         }
-        logger.logp(Level.SEVERE, componentClassName, StackHelper.getCallerMethodName(), message, params);
+        doLog(Level.SEVERE, getCallerMethodName(), message, params);
     }
 
     public void severe(final String message, final Throwable thrown) {
-        if (!this.logger.isLoggable(Level.SEVERE)) {
+        if (!isEnabled(Level.SEVERE)) {
+            return;
+        }
+        doLog(Level.SEVERE, getCallerMethodName(), message, thrown);
+    }
+
+    public void severe(final String message, final Object param1) {
+        if (!isEnabled(Level.SEVERE)) {
             return;
         }
-        logger.logp(Level.SEVERE, componentClassName, StackHelper.getCallerMethodName(), message, thrown);
+        doLog(Level.SEVERE, getCallerMethodName(), message, param1);
+    }
+
+    public void severe(final String message, final Object param1, final Object param2) {
+        if (!isEnabled(Level.SEVERE)) {
+            return;
+        }
+        doLog(Level.SEVERE, getCallerMethodName(), message, new Object[] {param1, param2});
+    }
+
+    public void severe(final String message, final Object param1, final Object param2, final Object param3) {
+        if (!isEnabled(Level.SEVERE)) {
+            return;
+        }
+        doLog(Level.SEVERE, getCallerMethodName(), message, new Object[] {param1, param2, param3});
+    }
+
+    public void severe(final String message, final Object param1, final Object param2, final Object param3, final Object param4) {
+        if (!isEnabled(Level.SEVERE)) {
+            return;
+        }
+        doLog(Level.SEVERE, getCallerMethodName(), message, new Object[] {param1, param2, param3, param4});
+    }
+
+    public void severeLazy(final Supplier<String> messageSupplier) {
+        if (!isEnabled(Level.SEVERE)) {
+            return;
+        }
+        doLog(Level.SEVERE, getCallerMethodName(), messageSupplier.get());
     }
 
     public boolean isMethodCallLoggable() {
-        return this.logger.isLoggable(METHOD_CALL_LEVEL_VALUE);
+        return isEnabled(METHOD_CALL_LEVEL_VALUE);
     }
 
     public boolean isLoggable(final Level level) {
-        return this.logger.isLoggable(level);
+        return isEnabled(level);
     }
 
     public void setLevel(final Level level) {
         this.logger.setLevel(level);
+        invalidateLevelCache();
+    }
+
+    /**
+     * Enables or disables caching of the effective logging level in istack loggers.
+     *
+     * <p>
+     * With caching enabled, checking whether a message is loggable is a comparison
+     * with a cached level instead of a call to {@link java.util.logging.Logger#isLoggable(Level)}.
+     * The cache is refreshed when the {@link LogManager} configuration is read or updated,
+     * and when the level is set through {@link #setLevel(Level)}. Code which changes levels
+     * directly on a {@link java.util.logging.Logger} must call {@link #invalidateLevelCache()}.
+     * Caching can also be enabled with the {@code com.sun.istack.logging.Logger.cacheLevels=true}
+     * system property.
+     *
+     * @param enabled {@code true} to cache levels
+     */
+    public static synchronized void setLevelCaching(final boolean enabled) {
+        if (enabled == levelCaching) {
+            return;
+        }
+        if (enabled) {
+            LogManager.getLogManager().addConfigurationListener(LEVEL_CACHE_INVALIDATOR);
+        } else {
+            LogManager.getLogManager().removeConfigurationListener(LEVEL_CACHE_INVALIDATOR);
+        }
+        invalidateLevelCache();
+        levelCaching = enabled;
+    }
+
+    /**
+     * Makes all istack loggers read their effective level again on the next check.
+     *
+     * @see #setLevelCaching(boolean)
+     */
+    public static void invalidateLevelCache() {
+        LEVEL_GENERATION.incrementAndGet();
+    }
+
+    private boolean isEnabled(final Level level) {
+        if (!levelCaching) {
+            return this.logger.isLoggable(level);
+        }
+        final int generation = LEVEL_GENERATION.get();
+        long cached = this.cachedLevel;
+        if ((int) (cached >>> 32) != generation) {
+            cached = refreshLevel(generation);
+        }
+        final int levelValue = (int) cached;
+        return level.intValue() >= levelValue && levelValue != OFF_VALUE;
+    }
+
+    private long refreshLevel(final int generation) {
+        // same as the effective level computed by java.util.logging.Logger
+        java.util.logging.Logger l = this.logger;
+        Level level = null;
+        while (l != null && (level = l.getLevel()) == null) {
+            l = l.getParent();
+        }
+        final int levelValue = level == null ? Level.INFO.intValue() : level.intValue();
+        final long cached = ((long) generation << 32) | (levelValue & 0xFFFFFFFFL);
+        this.cachedLevel = cached;
+        return cached;
     }
 
     public void entering() {
-        if (!this.logger.isLoggable(METHOD_CALL_LEVEL_VALUE)) {
+        // the calling method is looked up once for both
+        final String traced = jfrEvents ? JfrSupport.entering(this, componentName) : null;
+        if (!isEnabled(METHOD_CALL_LEVEL_VALUE)) {
             return;
         }
 
-        logger.entering(componentClassName, StackHelper.getCallerMethodName());
+        doLog(Level.FINER, getCallerMethodName(traced), "ENTRY");
     }
 
     public void entering(final Object... parameters) {
-        if (!this.logger.isLoggable(METHOD_CALL_LEVEL_VALUE)) {
+        final String traced = jfrEvents ? JfrSupport.entering(this, componentName) : null;
+        if (!isEnabled(METHOD_CALL_LEVEL_VALUE)) {
+            return;
+        }
+
+        String method = getCallerMethodName(traced);
+        if (parameters == null) {
+            doLog(Level.FINER, method, "ENTRY");
+            return;
+        }
+        // same message as java.util.logging.Logger.entering
+        StringBuilder msg = new StringBuilder("ENTRY");
+        for (int i = 0; i < parameters.length; i++) {
+            msg.append(" {").append(i).append('}');
+        }
+        doLog(Level.FINER, method, msg.toString(), parameters);
+    }
+
+    public void entering(final Object param1) {
+        final String traced = jfrEvents ? JfrSupport.entering(this, componentName) : null;
+        if (!isEnabled(METHOD_CALL_LEVEL_VALUE)) {
+            return;
+        }
+
+        doLog(Level.FINER, getCallerMethodName(traced), "ENTRY {0}", param1);
+    }
+
+    public void entering(final Object param1, final Object param2) {
+        final String traced = jfrEvents ? JfrSupport.entering(this, componentName) : null;
+        if (!isEnabled(METHOD_CALL_LEVEL_VALUE)) {
             return;
         }
 
-        logger.entering(componentClassName, StackHelper.getCallerMethodName(), parameters);
+        doLog(Level.FINER, getCallerMethodName(traced), "ENTRY {0} {1}", new Object[] {param1, param2});
+    }
+
+    public void entering(final Object param1, final Object param2, final Object param3) {
+        final String traced = jfrEvents ? JfrSupport.entering(this, componentName) : null;
+        if (!isEnabled(METHOD_CALL_LEVEL_VALUE)) {
+            return;
+        }
+
+        doLog(Level.FINER, getCallerMethodName(traced), "ENTRY {0} {1} {2}", new Object[] {param1, param2, param3});
+    }
+
+    public void entering(final Object param1, final Object param2, final Object param3, final Object param4) {
+        final String traced = jfrEvents ? JfrSupport.entering(this, componentName) : null;
+        if (!isEnabled(METHOD_CALL_LEVEL_VALUE)) {
+            return;
+        }
+
+        doLog(Level.FINER, getCallerMethodName(traced), "ENTRY {0} {1} {2} {3}", new Object[] {param1, param2, param3, param4});
     }
 
     public void exiting() {
-        if (!this.logger.isLoggable(METHOD_CALL_LEVEL_VALUE)) {
+        final String traced = jfrEvents ? JfrSupport.exiting(this) : null;
+        if (!isEnabled(METHOD_CALL_LEVEL_VALUE)) {
             return;
         }
-        logger.exiting(componentClassName, StackHelper.getCallerMethodName());
+        doLog(Level.FINER, getCallerMethodName(traced), "RETURN");
     }
 
     public void exiting(final Object result) {
-        if (!this.logger.isLoggable(METHOD_CALL_LEVEL_VALUE)) {
+        final String traced = jfrEvents ? JfrSupport.exiting(this) : null;
+        if (!isEnabled(METHOD_CALL_LEVEL_VALUE)) {
             return;
         }
-        logger.exiting(componentClassName, StackHelper.getCallerMethodName(), result);
+        doLog(Level.FINER, getCallerMethodName(traced), "RETURN {0}", result);
     }
 
     /**
@@ -336,13 +1203,11 @@ public class Logger {
      *         parameter.
      */
     public <T extends Throwable> T logSevereException(final T exception, final Throwable cause) {
-        if (this.logger.isLoggable(Level.SEVERE)) {
-            if (cause == null) {
-                logger.logp(Level.SEVERE, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage());
-            } else {
+        if (isEnabled(Level.SEVERE)) {
+            if (cause != null) {
                 exception.initCause(cause);
-                logger.logp(Level.SEVERE, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage(), cause);
             }
+            logThrowable(Level.SEVERE, exception, cause);
         }
 
         return exception;
@@ -368,12 +1233,8 @@ public class Logger {
      *         parameter.
      */
     public <T extends Throwable> T logSevereException(final T exception, final boolean logCause) {
-        if (this.logger.isLoggable(Level.SEVERE)) {
-            if (logCause && exception.getCause() != null) {
-                logger.logp(Level.SEVERE, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage(), exception.getCause());
-            } else {
-                logger.logp(Level.SEVERE, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage());
-            }
+        if (isEnabled(Level.SEVERE)) {
+            logThrowable(Level.SEVERE, exception, logCause ? exception.getCause() : null);
         }
 
         return exception;
@@ -388,12 +1249,8 @@ public class Logger {
      *         parameter.
      */
     public <T extends Throwable> T logSevereException(final T exception) {
-        if (this.logger.isLoggable(Level.SEVERE)) {
-            if (exception.getCause() == null) {
-                logger.logp(Level.SEVERE, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage());
-            } else {
-                logger.logp(Level.SEVERE, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage(), exception.getCause());
-            }
+        if (isEnabled(Level.SEVERE)) {
+            logThrowable(Level.SEVERE, exception, exception.getCause());
         }
 
         return exception;
@@ -417,13 +1274,11 @@ public class Logger {
      *         parameter.
      */
     public <T extends Throwable> T logException(final T exception, final Throwable cause, final Level level) {
-        if (this.logger.isLoggable(level)) {
-            if (cause == null) {
-                logger.logp(level, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage());
-            } else {
+        if (isEnabled(level)) {
+            if (cause != null) {
                 exception.initCause(cause);
-                logger.logp(level, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage(), cause);
             }
+            logThrowable(level, exception, cause);
         }
 
         return exception;
@@ -450,12 +1305,8 @@ public class Logger {
      *         parameter.
      */
     public <T extends Throwable> T logException(final T exception, final boolean logCause, final Level level) {
-        if (this.logger.isLoggable(level)) {
-            if (logCause && exception.getCause() != null) {
-                logger.logp(level, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage(), exception.getCause());
-            } else {
-                logger.logp(level, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage());
-            }
+        if (isEnabled(level)) {
+            logThrowable(level, exception, logCause ? exception.getCause() : null);
         }
 
         return exception;
@@ -472,15 +1323,43 @@ public class Logger {
      *         parameter.
      */
     public <T extends Throwable> T logException(final T exception, final Level level) {
-        if (this.logger.isLoggable(level)) {
-            if (exception.getCause() == null) {
-                logger.logp(level, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage());
-            } else {
-                logger.logp(level, componentClassName, StackHelper.getCallerMethodName(), exception.getMessage(), exception.getCause());
-            }
+        if (isEnabled(level)) {
+            logThrowable(level, exception, exception.getCause());
         }
 
         return exception;
     }
 
+    private void logThrowable(final Level level, final Throwable exception, final Throwable cause) {
+        final String method = getCallerMethodName();
+        final ExceptionRateLimiter limiter = exceptionRateLimiter;
+        if (limiter != null) {
+            final String type = exception.getClass().getName();
+            final long suppressed = limiter.acquire(componentName, method, type);
+            if (suppressed < 0) {
+                if (Metrics.isEnabled()) {
+                    LoggerMetrics.SUPPRESSED_EXCEPTIONS.increment();
+                }
+                return;
+            }
+            if (suppressed > 0) {
+                doLog(level, method, type + " ... repeated " + suppressed + " times");
+            }
+        }
+        if (cause == null) {
+            doLog(level, method, exception.getMessage());
+        } else {
+            doLog(level, method, exception.getMessage(), cause);
+        }
+    }
+
+    // created on first use, the metrics provider is not looked up when Logger is initialized
+    private static final class LoggerMetrics {
+        static final Counter RECORDS = Metrics.counter("istack.logging.records");
+        static final Counter SUPPRESSED_EXCEPTIONS = Metrics.counter("istack.logging.suppressedExceptions");
+
+        static {
+            Metrics.gauge("istack.logging.droppedRecords", Logger::getDroppedRecordCount);
+        }
+    }
 }
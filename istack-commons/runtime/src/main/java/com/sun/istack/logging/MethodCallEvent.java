@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.logging;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event spanning a method call traced by
+ * {@link Logger#entering()} and {@link Logger#exiting()}.
+ * The stack trace is not recorded by default, as it costs more than the
+ * rest of the event; it can be enabled with the {@code stackTrace} setting
+ * of the event.
+ */
+@Name(MethodCallEvent.NAME)
+@Label("Method Call")
+@Description("Method call traced by an istack logger")
+@Category({"istack", "Logging"})
+@StackTrace(false)
+final class MethodCallEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.sun.istack.logging.MethodCall";
+
+    @Label("Component")
+    String component;
+
+    @Label("Method")
+    String method;
+}
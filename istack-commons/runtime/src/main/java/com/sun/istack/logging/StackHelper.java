@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2019, 2022 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -10,6 +11,10 @@
 
 package com.sun.istack.logging;
 
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 /**
  * Utils for stack trace analysis
  *
@@ -17,6 +22,25 @@ package com.sun.istack.logging;
  */
 class StackHelper {
 
+    private static final String LOGGER_CLASS_NAME = Logger.class.getName();
+
+    // class references are not needed to compare class names, and are costly to retain
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    //Its a method of first declaring class after istack Logger class
+    private static final Function<Stream<StackWalker.StackFrame>, String> CALLER = frames -> {
+        boolean inLogger = false;
+        for (Iterator<StackWalker.StackFrame> it = frames.iterator(); it.hasNext(); ) {
+            StackWalker.StackFrame f = it.next();
+            if (LOGGER_CLASS_NAME.equals(f.getClassName())) {
+                inLogger = true;
+            } else if (inLogger) {
+                return f.getMethodName();
+            }
+        }
+        return "UNKNOWN METHOD";
+    };
+
     /**
      * Function returns the name of the caller method for the method executing this
      * function.
@@ -24,13 +48,6 @@ class StackHelper {
      * @return caller method name from the call stack of the current {@link Thread}.
      */
     static String getCallerMethodName() {
-        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
-                .walk(frames -> frames
-                        //Its a method of first declaring class after istack Logger class
-                        .dropWhile(f -> !Logger.class.equals(f.getDeclaringClass()))
-                        .dropWhile(f -> Logger.class.equals(f.getDeclaringClass()))
-                        .findFirst()
-                        .map(StackWalker.StackFrame::getMethodName)
-                        .orElse("UNKNOWN METHOD"));
+        return WALKER.walk(CALLER);
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.logging;
+
+import com.sun.istack.localization.Localizable;
+
+import java.io.Serial;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * {@link LogRecord} created by an istack {@link Logger} in the structured record mode.
+ *
+ * <p>
+ * Besides the standard fields, it carries the component and the subsystem
+ * of the logger, and the key and arguments of the logged {@link Localizable}
+ * message, so that log handlers and formatters do not have to parse them back
+ * out of the message text.
+ *
+ * @see Logger#setStructuredRecords(boolean)
+ * @see JsonLinesFormatter
+ */
+public class StructuredLogRecord extends LogRecord {
+
+    @Serial
+    private static final long serialVersionUID = -2146312585536423387L;
+
+    private static final String[] NO_ARGUMENTS = new String[0];
+
+    private final String component;
+    private final String subsystem;
+    private final String messageKey;
+    private final String[] messageArguments;
+
+    /**
+     * Creates a new record.
+     *
+     * @param level logging level
+     * @param message the message
+     * @param component name of the class of the component which logged the message
+     * @param subsystem name of the subsystem logger
+     * @param localizable the logged message, may be {@code null}
+     */
+    public StructuredLogRecord(Level level, String message, String component, String subsystem, Localizable localizable) {
+        super(level, message);
+        this.component = component;
+        this.subsystem = subsystem;
+        if (localizable == null || Localizable.NOT_LOCALIZABLE.equals(localizable.getKey())) {
+            this.messageKey = null;
+            this.messageArguments = NO_ARGUMENTS;
+        } else {
+            this.messageKey = localizable.getKey();
+            Object[] args = localizable.getArguments();
+            this.messageArguments = new String[args.length];
+            for (int i = 0; i < args.length; i++) {
+                this.messageArguments[i] = String.valueOf(args[i]);
+            }
+        }
+    }
+
+    /**
+     * @return name of the class of the component which logged the message
+     */
+    public String getComponent() {
+        return component;
+    }
+
+    /**
+     * @return name of the subsystem logger, see {@link Logger#getLogger(Class)}
+     */
+    public String getSubsystem() {
+        return subsystem;
+    }
+
+    /**
+     * @return key of the logged {@link Localizable} message,
+     *      or {@code null} if the message was not localizable
+     */
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    /**
+     * @return arguments of the logged {@link Localizable} message converted to strings,
+     *      never {@code null}
+     */
+    public String[] getMessageArguments() {
+        return messageArguments.clone();
+    }
+
+    int getMessageArgumentCount() {
+        return messageArguments.length;
+    }
+
+    String getMessageArgument(int i) {
+        return messageArguments[i];
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.metrics;
+
+/**
+ * Monotonic count of events.
+ *
+ * @see Metrics#counter(String)
+ */
+public interface Counter {
+
+    /**
+     * Adds one to the count.
+     */
+    void increment();
+
+    /**
+     * Adds to the count.
+     * @param delta value to add, should not be negative
+     */
+    void add(long delta);
+
+    /**
+     * @return the current count
+     */
+    long count();
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.metrics;
+
+/**
+ * Value sampled when the metrics are read.
+ *
+ * @see Metrics#gauge(String, Gauge)
+ */
+@FunctionalInterface
+public interface Gauge {
+
+    /**
+     * @return the current value
+     */
+    long value();
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.metrics;
+
+/**
+ * Distribution of recorded values, such as durations or sizes.
+ *
+ * @see Metrics#histogram(String)
+ */
+public interface Histogram {
+
+    /**
+     * Records a value.
+     * @param value the value, negative values are recorded as {@code 0}
+     */
+    void record(long value);
+
+    /**
+     * @return number of recorded values
+     */
+    long count();
+
+    /**
+     * @return sum of recorded values
+     */
+    long sum();
+
+    /**
+     * @return the largest recorded value, or {@code 0} if there is none
+     */
+    long max();
+
+    /**
+     * @param percentile percentile between {@code 0} and {@code 100}
+     * @return value at or below which the given percentage of recorded values lies,
+     *      or {@code 0} if there is none
+     */
+    long valueAtPercentile(double percentile);
+}
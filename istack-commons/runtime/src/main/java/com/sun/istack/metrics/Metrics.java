@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.metrics;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Entry point to the istack metrics.
+ *
+ * <p>
+ * The {@link MetricsProvider} is looked up once, with {@link ServiceLoader} using
+ * the context class loader of the thread which first asks for it. If there is none,
+ * all instruments do nothing. The lookup runs provider code, so it should not be
+ * triggered by the static initialization of a class the provider may use itself.
+ * Instrumented classes keep their instruments in a holder class and only touch it
+ * when metrics are enabled:
+ * <pre>
+ * private static final class PoolMetrics {
+ *     static final Counter CREATED = Metrics.counter("com.example.pool.created");
+ * }
+ * ...
+ * if (Metrics.isEnabled()) {
+ *     PoolMetrics.CREATED.increment();
+ * }
+ * </pre>
+ *
+ * <p>
+ * Code which uses metrics while the provider is being looked up, on the same thread,
+ * gets the no-op instruments.
+ *
+ * <p>
+ * Setting the {@code com.sun.istack.metrics.Metrics.simple} system property to {@code true}
+ * installs the {@link SimpleMetricsProvider} when no other provider is found.
+ */
+public final class Metrics {
+
+    private Metrics() {
+    }
+
+    // looked up on first use, not when the instrumented classes are initialized
+    private static final class ProviderHolder {
+        static final MetricsProvider PROVIDER = load();
+    }
+
+    private static MetricsProvider provider() {
+        MetricsProvider provider = ProviderHolder.PROVIDER;
+        // null while the lookup itself uses metrics
+        return provider == null ? NoOpMetrics.INSTANCE : provider;
+    }
+
+    private static MetricsProvider load() {
+        try {
+            Iterator<MetricsProvider> it = ServiceLoader.load(MetricsProvider.class).iterator();
+            if (it.hasNext()) {
+                return it.next();
+            }
+        } catch (ServiceConfigurationError e) {
+            // fall through to the defaults, metrics must not break the application
+        }
+        if (Boolean.getBoolean("com.sun.istack.metrics.Metrics.simple")) {
+            return new SimpleMetricsProvider();
+        }
+        return NoOpMetrics.INSTANCE;
+    }
+
+    /**
+     * @return the installed provider
+     */
+    public static MetricsProvider getProvider() {
+        return provider();
+    }
+
+    /**
+     * @return {@code true} if a provider is installed, that is
+     *      the instruments are not no-ops
+     */
+    public static boolean isEnabled() {
+        return provider() != NoOpMetrics.INSTANCE;
+    }
+
+    /**
+     * @param name name of the counter
+     * @return the counter of the given name
+     */
+    public static Counter counter(String name) {
+        return provider().counter(name);
+    }
+
+    /**
+     * @param name name of the histogram
+     * @return the histogram of the given name
+     */
+    public static Histogram histogram(String name) {
+        return provider().histogram(name);
+    }
+
+    /**
+     * Registers a gauge.
+     * @param name name of the gauge
+     * @param gauge the gauge
+     */
+    public static void gauge(String name, Gauge gauge) {
+        provider().gauge(name, gauge);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.metrics;
+
+/**
+ * Service provider interface of the istack metrics.
+ *
+ * <p>
+ * Implementations are looked up with {@link java.util.ServiceLoader} when {@link Metrics}
+ * is first used, and bridge the istack instruments to a metrics
+ * library such as Micrometer. They have to be thread safe. Instruments are requested
+ * once per name and kept by the caller, so lookups need not be fast.
+ *
+ * @see Metrics
+ */
+public interface MetricsProvider {
+
+    /**
+     * @param name name of the counter
+     * @return the counter of the given name
+     */
+    Counter counter(String name);
+
+    /**
+     * @param name name of the histogram
+     * @return the histogram of the given name
+     */
+    Histogram histogram(String name);
+
+    /**
+     * Registers a gauge. Registering another gauge of the same name replaces the previous one.
+     * @param name name of the gauge
+     * @param gauge the gauge
+     */
+    void gauge(String name, Gauge gauge);
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.metrics;
+
+/**
+ * Instruments which do nothing, used when no {@link MetricsProvider} is installed.
+ */
+final class NoOpMetrics implements MetricsProvider, Counter, Histogram {
+
+    static final NoOpMetrics INSTANCE = new NoOpMetrics();
+
+    private NoOpMetrics() {
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return this;
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return this;
+    }
+
+    @Override
+    public void gauge(String name, Gauge gauge) {
+    }
+
+    @Override
+    public void increment() {
+    }
+
+    @Override
+    public void add(long delta) {
+    }
+
+    @Override
+    public long count() {
+        return 0;
+    }
+
+    @Override
+    public void record(long value) {
+    }
+
+    @Override
+    public long sum() {
+        return 0;
+    }
+
+    @Override
+    public long max() {
+        return 0;
+    }
+
+    @Override
+    public long valueAtPercentile(double percentile) {
+        return 0;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link MetricsProvider} keeping the metrics in memory.
+ *
+ * <p>
+ * Counters are backed by {@link LongAdder}s, and histograms count the values in
+ * logarithmic buckets with a relative error of about 6%. The metrics can be read
+ * through {@link #getCounters()}, {@link #getGauges()} and {@link #getHistograms()},
+ * for example to publish them over JMX.
+ *
+ * <p>
+ * It is used by {@link Metrics} when no other provider is installed and the
+ * {@code com.sun.istack.metrics.Metrics.simple} system property is {@code true}.
+ */
+public class SimpleMetricsProvider implements MetricsProvider {
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    public SimpleMetricsProvider() {
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new AdderCounter());
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, n -> new BucketHistogram());
+    }
+
+    @Override
+    public void gauge(String name, Gauge gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * @return live, unmodifiable view of the counters by name
+     */
+    public Map<String, Counter> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    /**
+     * @return live, unmodifiable view of the gauges by name
+     */
+    public Map<String, Gauge> getGauges() {
+        return Collections.unmodifiableMap(gauges);
+    }
+
+    /**
+     * @return live, unmodifiable view of the histograms by name
+     */
+    public Map<String, Histogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    private static final class AdderCounter implements Counter {
+
+        private final LongAdder adder = new LongAdder();
+
+        @Override
+        public void increment() {
+            adder.increment();
+        }
+
+        @Override
+        public void add(long delta) {
+            adder.add(delta);
+        }
+
+        @Override
+        public long count() {
+            return adder.sum();
+        }
+    }
+}
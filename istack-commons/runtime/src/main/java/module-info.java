@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2017, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -15,8 +16,12 @@ module com.sun.istack.runtime {
     requires transitive java.logging;
     requires transitive java.xml;
     requires static transitive jakarta.activation;
+    requires static jdk.jfr;
 
     exports com.sun.istack;
     exports com.sun.istack.localization;
     exports com.sun.istack.logging;
+    exports com.sun.istack.metrics;
+
+    uses com.sun.istack.metrics.MetricsProvider;
 }
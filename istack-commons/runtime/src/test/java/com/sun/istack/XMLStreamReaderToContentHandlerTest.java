@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+public class XMLStreamReaderToContentHandlerTest {
+
+    private static final String XML = "<root><a/><b>text</b><c/></root>";
+
+    public XMLStreamReaderToContentHandlerTest() {
+    }
+
+    @Test
+    public void testTerminate() throws XMLStreamException {
+        XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(XML));
+        List<String> events = new ArrayList<>();
+        XMLStreamReaderToContentHandler bridge = new XMLStreamReaderToContentHandler(reader, new DefaultHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+                events.add(localName);
+                if ("b".equals(localName)) {
+                    throw XMLStreamReaderToContentHandler.terminate();
+                }
+            }
+
+            @Override
+            public void endDocument() {
+                events.add("endDocument");
+            }
+        }, false, false);
+        bridge.bridge();
+
+        Assert.assertTrue(bridge.isTerminated());
+        Assert.assertEquals(List.of("root", "a", "b"), events);
+        Assert.assertEquals("b", reader.getLocalName());
+    }
+
+    @Test
+    public void testError() throws XMLStreamException {
+        XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(XML));
+        SAXException error = new SAXException2("failed");
+        XMLStreamReaderToContentHandler bridge = new XMLStreamReaderToContentHandler(reader, new DefaultHandler() {
+            @Override
+            public void characters(char[] ch, int start, int length) throws SAXException {
+                throw error;
+            }
+        }, false, false);
+        try {
+            bridge.bridge();
+            Assert.fail();
+        } catch (XMLStreamException e) {
+            Assert.assertSame(error, e.getCause());
+            Assert.assertEquals(0, e.getStackTrace().length);
+        }
+        Assert.assertFalse(bridge.isTerminated());
+    }
+
+    @Test
+    public void testStackless() {
+        Exception cause = new IllegalStateException();
+        SAXException2 sax = SAXException2.withoutStackTrace("sax", cause);
+        Assert.assertSame(cause, sax.getCause());
+        Assert.assertEquals(0, sax.getStackTrace().length);
+
+        SAXParseException2 parse = SAXParseException2.withoutStackTrace("parse", null, cause);
+        Assert.assertSame(cause, parse.getCause());
+        Assert.assertEquals(0, parse.getStackTrace().length);
+
+        XMLStreamException2 stax = XMLStreamException2.withoutStackTrace("stax", cause);
+        Assert.assertSame(cause, stax.getCause());
+        Assert.assertEquals("stax", stax.getMessage());
+        Assert.assertEquals(0, stax.getStackTrace().length);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.localization;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class LocalizerTest {
+
+    private static final String BUNDLE = "com.sun.istack.localization.Messages";
+
+    private static final LocalizableMessageFactory FACTORY =
+            new LocalizableMessageFactory(BUNDLE, locale -> ResourceBundle.getBundle(BUNDLE, locale));
+
+    public LocalizerTest() {
+    }
+
+    @Test
+    public void testLocalize() {
+        Localizer localizer = new Localizer(Locale.ROOT);
+        Assert.assertEquals("Hello world", localizer.localize(FACTORY.getMessage("hello", "world")));
+        Assert.assertEquals("[failed to localize] hello(world)",
+                localizer.localize(new LocalizableMessageFactory("com.sun.istack.localization.Missing",
+                        locale -> null).getMessage("hello", "world")));
+    }
+
+    @Test
+    public void testLocalizeWithLocale() {
+        Localizer localizer = new Localizer(Locale.ROOT);
+        Localizable hello = FACTORY.getMessage("hello", "world");
+        Assert.assertEquals("Hallo world", localizer.localize(hello, Locale.GERMAN));
+        Assert.assertEquals("Hello world", localizer.localize(hello, null));
+        Assert.assertEquals("Hello world", localizer.localize(hello));
+        Assert.assertEquals("[failed to localize] nokey()", localizer.localize(FACTORY.getMessage("nokey"), Locale.GERMAN));
+        Assert.assertEquals(2, localizer.getMissingKeyCount());
+    }
+
+    @Test
+    public void testLocalizeTo() throws IOException {
+        Localizer localizer = new Localizer(Locale.ROOT);
+        Localizable hello = FACTORY.getMessage("hello", FACTORY.getMessage("const"));
+        Assert.assertEquals("> Hello Constant message",
+                localizer.localizeTo(hello, new StringBuilder("> ")).toString());
+        Assert.assertEquals("> Hallo Constant message",
+                localizer.localizeTo(hello, Locale.GERMAN, new StringBuffer("> ")).toString());
+        Assert.assertEquals("plain", localizer.localizeTo(new NullLocalizable("plain"), new StringBuilder()).toString());
+        Assert.assertEquals("[failed to localize] nokey()",
+                localizer.localizeTo(FACTORY.getMessage("nokey"), new StringBuilder()).toString());
+    }
+
+    @Test
+    public void testLocalizeToReentrant() throws IOException {
+        Localizer localizer = new Localizer(Locale.ROOT);
+        // formatting the outer message localizes another one on the same thread
+        Object nested = new Object() {
+            @Override
+            public String toString() {
+                try {
+                    return localizer.localizeTo(FACTORY.getMessage("hello", "nested"), new StringBuilder()).toString();
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        };
+        Assert.assertEquals("Hello Hello nested",
+                localizer.localizeTo(FACTORY.getMessage("hello", nested), new StringBuilder()).toString());
+        Assert.assertEquals("Hello again",
+                localizer.localizeTo(FACTORY.getMessage("hello", "again"), new StringBuilder()).toString());
+    }
+
+    @Test
+    public void testSharedMessages() {
+        Localizable constant = FACTORY.getMessage("const");
+        Assert.assertSame(constant, FACTORY.getMessage("const"));
+        Assert.assertNotSame(FACTORY.getMessage("hello", "a"), FACTORY.getMessage("hello", "a"));
+
+        Localizer localizer = new Localizer(Locale.ROOT);
+        String localized = localizer.localize(constant);
+        Assert.assertEquals("Constant message", localized);
+        Assert.assertSame(localized, localizer.localize(constant));
+
+        // the text is cached by each localizer, another one still looks for the bundle
+        boolean[] found = {true};
+        Localizable message = new LocalizableMessageFactory("com.sun.istack.localization.Supplied",
+                locale -> found[0] ? ResourceBundle.getBundle(BUNDLE, locale) : null).getMessage("const");
+        Assert.assertEquals("Constant message", localizer.localize(message));
+        found[0] = false;
+        Localizer other = new Localizer(Locale.ROOT);
+        Assert.assertEquals("[failed to localize] const()", other.localize(message));
+        Assert.assertEquals(1, other.getMissingBundleCount());
+        Assert.assertEquals("Constant message", localizer.localize(message));
+    }
+
+    @Test
+    public void testMissCounts() {
+        Localizer localizer = new Localizer(Locale.ROOT);
+        Localizable missingBundle = new LocalizableMessageFactory("com.sun.istack.localization.Missing",
+                locale -> null).getMessage("hello", "world");
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals("[failed to localize] hello(world)", localizer.localize(missingBundle));
+            Assert.assertEquals("[failed to localize] nokey()", localizer.localize(FACTORY.getMessage("nokey")));
+        }
+        Assert.assertEquals(3, localizer.getMissingBundleCount());
+        // both the key and the "undefined" fallback are missing
+        Assert.assertEquals(6, localizer.getMissingKeyCount());
+    }
+
+    @Test
+    public void testGetBundleNames() {
+        Set<String> names = Localizer.getBundleNames(LocalizerTest.class.getClassLoader());
+        Assert.assertTrue(names.toString(), names.contains(BUNDLE));
+    }
+
+    @Test
+    public void testPreload() {
+        Set<String> missing = new Localizer(Locale.ROOT)
+                .preload(Arrays.asList(BUNDLE, "com.sun.istack.localization.Missing"));
+        Assert.assertEquals(Collections.singleton("com.sun.istack.localization.Missing"), missing);
+
+        // the bundle of a factory comes from its supplier, even if it cannot be found by name
+        ResourceBundle german = ResourceBundle.getBundle(BUNDLE, Locale.GERMAN);
+        Localizer localizer = new Localizer(Locale.ROOT);
+        Assert.assertEquals(Collections.emptySet(), localizer.preload(
+                new LocalizableMessageFactory("com.sun.istack.localization.Supplied", locale -> german)));
+        Assert.assertEquals("Hallo world", localizer.localize(
+                new LocalizableMessageFactory("com.sun.istack.localization.Supplied", locale -> null)
+                        .getMessage("hello", "world")));
+        Assert.assertEquals(Collections.singleton("com.sun.istack.localization.Missing"), localizer.preload(
+                new LocalizableMessageFactory("com.sun.istack.localization.Missing", locale -> null)));
+        Assert.assertEquals(0, localizer.getMissingBundleCount());
+
+        List<Localizer> localizers = Localizer.preload(Collections.singleton(BUNDLE),
+                Arrays.asList(Locale.ROOT, Locale.GERMAN), true);
+        Assert.assertEquals(2, localizers.size());
+        Assert.assertEquals("Hallo world", localizers.get(1).localize(FACTORY.getMessage("hello", "world")));
+    }
+
+    @Test
+    public void testPreloadMessages() {
+        GeneratedMessages.LOOKUPS.clear();
+        Set<String> failed = Localizer.preloadMessages(LocalizerTest.class.getClassLoader(),
+                Arrays.asList(Locale.ROOT, Locale.GERMAN));
+        Assert.assertEquals(Collections.emptySet(), failed);
+        Assert.assertEquals(Arrays.asList(Locale.ROOT, Locale.GERMAN), GeneratedMessages.LOOKUPS);
+
+        // the localizer of the generated class uses the preloaded bundles
+        Assert.assertEquals("Hallo world", GeneratedMessages.HELLO(Locale.GERMAN, "world"));
+        Assert.assertEquals("Hello world", GeneratedMessages.HELLO(Locale.ROOT, "world"));
+        Assert.assertEquals(Arrays.asList(Locale.ROOT, Locale.GERMAN), GeneratedMessages.LOOKUPS);
+    }
+
+    /**
+     * Like the classes generated with the {@code bundleIndex} option, listed in the test index.
+     */
+    public static final class GeneratedMessages {
+
+        static final List<Locale> LOOKUPS = new CopyOnWriteArrayList<>();
+        private static final LocalizableMessageFactory MESSAGE_FACTORY = new LocalizableMessageFactory(BUNDLE,
+                locale -> {
+                    LOOKUPS.add(locale);
+                    return ResourceBundle.getBundle(BUNDLE, locale);
+                });
+        private static final Localizer LOCALIZER = new Localizer(Locale.ROOT);
+
+        private GeneratedMessages() {
+        }
+
+        public static Set<Locale> preload(Collection<Locale> locales) {
+            return LOCALIZER.preload(locales, MESSAGE_FACTORY);
+        }
+
+        public static String HELLO(Locale locale, Object arg0) {
+            return LOCALIZER.localize(MESSAGE_FACTORY.getMessage("hello", arg0), locale);
+        }
+    }
+}
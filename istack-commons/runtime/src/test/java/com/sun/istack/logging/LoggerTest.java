@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 1997, 2023 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -10,13 +11,29 @@
 
 package com.sun.istack.logging;
 
+import com.sun.istack.localization.LocalizableMessageFactory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
 import java.util.logging.Formatter;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogManager;
 import java.util.logging.LogRecord;
 import java.util.logging.StreamHandler;
 
@@ -36,6 +53,9 @@ public class LoggerTest {
     public void testGetLogger() {
         Logger result = Logger.getLogger(LoggerTest.class);
         Assert.assertNotNull(result);
+        Assert.assertSame(result, Logger.getLogger(LoggerTest.class));
+        Assert.assertSame(Logger.getLogger("custom", LoggerTest.class), Logger.getLogger("custom", LoggerTest.class));
+        Assert.assertNotSame(result, Logger.getLogger("custom", LoggerTest.class));
     }
 
     /**
@@ -72,4 +92,351 @@ public class LoggerTest {
         Assert.assertEquals("testGetCallerMethodName", logText);
     }
 
+    /**
+     * Test explicit and disabled caller method resolution
+     */
+    @Test
+    public void testCallerResolution() {
+        Logger istackLogger = Logger.getLogger(LoggerTest.class);
+        java.util.logging.Logger utilLogger =
+                java.util.logging.Logger.getLogger(Logger.getSystemLoggerName(LoggerTest.class));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StreamHandler streamHandler = new StreamHandler(outputStream, new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getSourceMethodName() + ";";
+            }
+        });
+        utilLogger.addHandler(streamHandler);
+        try {
+            istackLogger.logp(Level.INFO, "explicit", "This LOG entry is part of the test");
+            Logger.getLogger(LoggerTest.class, Logger.CallerResolution.NONE).info("This LOG entry is part of the test");
+            Logger.getLogger(LoggerTest.class, Logger.CallerResolution.STACK_WALK).info("This LOG entry is part of the test");
+            streamHandler.flush();
+        } finally {
+            utilLogger.removeHandler(streamHandler);
+        }
+
+        String logText = outputStream.toString(StandardCharsets.UTF_8);
+        Assert.assertEquals("explicit;null;testCallerResolution;", logText);
+        // the loggers of other modes are separate instances
+        Assert.assertSame(istackLogger, Logger.getLogger(LoggerTest.class, istackLogger.getCallerResolution()));
+        Assert.assertNotSame(Logger.getLogger(LoggerTest.class, Logger.CallerResolution.NONE),
+                Logger.getLogger(LoggerTest.class, Logger.CallerResolution.STACK_WALK));
+    }
+
+    /**
+     * Test asynchronous dispatch
+     */
+    @Test
+    public void testAsync() {
+        Logger istackLogger = Logger.getLogger(LoggerTest.class);
+        java.util.logging.Logger utilLogger =
+                java.util.logging.Logger.getLogger(Logger.getSystemLoggerName(LoggerTest.class));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StreamHandler streamHandler = new StreamHandler(outputStream, new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getSourceMethodName() + ":" + formatMessage(record) + ";";
+            }
+        });
+        utilLogger.addHandler(streamHandler);
+        Logger.startAsync(2, Logger.OverflowPolicy.BLOCK);
+        try {
+            for (int i = 0; i < 5; i++) {
+                istackLogger.info("async {0}", new Object[] {i});
+            }
+            Logger.flush();
+            Assert.assertEquals(0, Logger.getDroppedRecordCount());
+        } finally {
+            Logger.stopAsync();
+            utilLogger.removeHandler(streamHandler);
+        }
+        streamHandler.flush();
+
+        String logText = outputStream.toString(StandardCharsets.UTF_8);
+        Assert.assertEquals("testAsync:async 0;testAsync:async 1;testAsync:async 2;"
+                + "testAsync:async 3;testAsync:async 4;", logText);
+    }
+
+    /**
+     * Test the dispatcher survives exceptions thrown by handlers, and reports them
+     */
+    @Test
+    public void testAsyncFailingHandler() {
+        Logger istackLogger = Logger.getLogger(LoggerTest.class);
+        java.util.logging.Logger utilLogger =
+                java.util.logging.Logger.getLogger(Logger.getSystemLoggerName(LoggerTest.class));
+        StringBuilder logText = new StringBuilder();
+        List<Exception> errors = new CopyOnWriteArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                String message = MessageFormat.format(record.getMessage(), record.getParameters());
+                if (message.equals("async 0")) {
+                    throw new IllegalStateException("failing handler");
+                }
+                synchronized (logText) {
+                    logText.append(message).append(';');
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        handler.setErrorManager(new ErrorManager() {
+            @Override
+            public void error(String msg, Exception ex, int code) {
+                errors.add(ex);
+            }
+        });
+        utilLogger.addHandler(handler);
+        Logger.startAsync(2, Logger.OverflowPolicy.BLOCK);
+        try {
+            for (int i = 0; i < 5; i++) {
+                Object[] params = {i};
+                istackLogger.info("async {0}", params);
+                // the array is copied when queued
+                params[0] = "changed";
+            }
+            Logger.flush();
+        } finally {
+            Logger.stopAsync();
+            utilLogger.removeHandler(handler);
+        }
+
+        synchronized (logText) {
+            Assert.assertEquals("async 1;async 2;async 3;async 4;", logText.toString());
+        }
+        Assert.assertEquals(1, errors.size());
+        Assert.assertEquals("failing handler", errors.get(0).getMessage());
+    }
+
+    /**
+     * Test lazy and fixed arity parameter overloads
+     */
+    @Test
+    public void testParameters() {
+        Logger istackLogger = Logger.getLogger(LoggerTest.class);
+        java.util.logging.Logger utilLogger =
+                java.util.logging.Logger.getLogger(Logger.getSystemLoggerName(LoggerTest.class));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StreamHandler streamHandler = new StreamHandler(outputStream, new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return formatMessage(record) + ";";
+            }
+        });
+        utilLogger.addHandler(streamHandler);
+        Level level = utilLogger.getLevel();
+        try {
+            utilLogger.setLevel(Level.INFO);
+            istackLogger.fineLazy(() -> {
+                throw new AssertionError("evaluated below logger level");
+            });
+            istackLogger.infoLazy(() -> "supplied");
+            // not ambiguous with the lazy variants
+            istackLogger.fine(null);
+            istackLogger.warning("{0}-{1}-{2}-{3}", "a", "b", "c", "d");
+            istackLogger.log(Level.INFO, "{0}/{1}", 1, 2);
+            streamHandler.flush();
+        } finally {
+            utilLogger.setLevel(level);
+            utilLogger.removeHandler(streamHandler);
+        }
+
+        String logText = outputStream.toString(StandardCharsets.UTF_8);
+        Assert.assertEquals("supplied;a-b-c-d;1/2;", logText);
+    }
+
+    /**
+     * Test level caching follows level changes
+     */
+    @Test
+    public void testLevelCaching() throws Exception {
+        Logger istackLogger = Logger.getLogger(LoggerTest.class);
+        java.util.logging.Logger utilLogger =
+                java.util.logging.Logger.getLogger(Logger.getSystemLoggerName(LoggerTest.class));
+        Level level = utilLogger.getLevel();
+        Logger.setLevelCaching(true);
+        try {
+            istackLogger.setLevel(Level.WARNING);
+            Assert.assertFalse(istackLogger.isLoggable(Level.INFO));
+            Assert.assertTrue(istackLogger.isLoggable(Level.SEVERE));
+
+            istackLogger.setLevel(Level.FINE);
+            Assert.assertTrue(istackLogger.isLoggable(Level.INFO));
+            Assert.assertFalse(istackLogger.isMethodCallLoggable());
+
+            // level inherited from the parent, changed directly on java.util.logging
+            istackLogger.setLevel(null);
+            java.util.logging.Logger parent = utilLogger.getParent();
+            Level parentLevel = parent.getLevel();
+            try {
+                parent.setLevel(Level.OFF);
+                Logger.invalidateLevelCache();
+                Assert.assertFalse(istackLogger.isLoggable(Level.SEVERE));
+            } finally {
+                parent.setLevel(parentLevel);
+            }
+
+            // configuration update
+            utilLogger.setLevel(Level.SEVERE);
+            LogManager.getLogManager().updateConfiguration(null);
+            Assert.assertEquals(utilLogger.isLoggable(Level.INFO), istackLogger.isLoggable(Level.INFO));
+            Assert.assertEquals(utilLogger.isLoggable(Level.SEVERE), istackLogger.isLoggable(Level.SEVERE));
+        } finally {
+            Logger.setLevelCaching(false);
+            utilLogger.setLevel(level);
+        }
+    }
+
+    @Test
+    public void testStructuredRecords() {
+        String bundle = "com.sun.istack.localization.Messages";
+        LocalizableMessageFactory messages =
+                new LocalizableMessageFactory(bundle, locale -> ResourceBundle.getBundle(bundle, locale));
+        Logger istackLogger = Logger.getLogger(LoggerTest.class);
+        java.util.logging.Logger utilLogger =
+                java.util.logging.Logger.getLogger(Logger.getSystemLoggerName(LoggerTest.class));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StreamHandler streamHandler = new StreamHandler(outputStream, new JsonLinesFormatter());
+        utilLogger.addHandler(streamHandler);
+        try {
+            Logger.setStructuredRecords(true);
+            istackLogger.logp(Level.INFO, "run", "plain \"{0}\"", new Object[] {"quoted"});
+            istackLogger.log(Level.WARNING, messages.getMessage("hello", "world"));
+            streamHandler.flush();
+        } finally {
+            Logger.setStructuredRecords(false);
+            utilLogger.removeHandler(streamHandler);
+        }
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        Assert.assertEquals(2, lines.length);
+        Assert.assertTrue(lines[0], lines[0].contains("\"level\":\"INFO\""));
+        Assert.assertTrue(lines[0], lines[0].contains("\"component\":\"com.sun.istack.logging.LoggerTest\""));
+        Assert.assertTrue(lines[0], lines[0].contains("\"subsystem\":\"" + utilLogger.getName() + "\""));
+        Assert.assertTrue(lines[0], lines[0].contains("\"method\":\"run\""));
+        Assert.assertTrue(lines[0], lines[0].contains("\"message\":\"plain \\\"quoted\\\"\""));
+        Assert.assertFalse(lines[0], lines[0].contains("\"key\""));
+        Assert.assertTrue(lines[1], lines[1].contains("\"method\":\"testStructuredRecords\""));
+        Assert.assertTrue(lines[1], lines[1].contains("\"message\":\"Hello world\",\"key\":\"hello\",\"args\":[\"world\"]"));
+    }
+
+    @Test
+    public void testExceptionRateLimit() {
+        Logger istackLogger = Logger.getLogger(LoggerTest.class);
+        java.util.logging.Logger utilLogger =
+                java.util.logging.Logger.getLogger(Logger.getSystemLoggerName(LoggerTest.class));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StreamHandler streamHandler = new StreamHandler(outputStream, new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return formatMessage(record) + ";";
+            }
+        });
+        utilLogger.addHandler(streamHandler);
+        boolean useParentHandlers = utilLogger.getUseParentHandlers();
+        try {
+            utilLogger.setUseParentHandlers(false);
+            AtomicLong clock = new AtomicLong();
+            Logger.setExceptionRateLimiter(new ExceptionRateLimiter(2, TimeUnit.MILLISECONDS.toNanos(200), clock::get));
+            for (int i = 0; i < 5; i++) {
+                istackLogger.logSevereException(new IllegalStateException("state"));
+                istackLogger.logException(new IllegalArgumentException("argument"), Level.WARNING);
+            }
+            Assert.assertEquals(6, Logger.getSuppressedExceptionCount());
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(199));
+            istackLogger.logSevereException(new IllegalStateException("state"));
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            istackLogger.logSevereException(new IllegalStateException("state"));
+            streamHandler.flush();
+        } finally {
+            Logger.setExceptionRateLimit(0, 0, TimeUnit.MILLISECONDS);
+            utilLogger.setUseParentHandlers(useParentHandlers);
+            utilLogger.removeHandler(streamHandler);
+        }
+
+        String logText = outputStream.toString(StandardCharsets.UTF_8);
+        Assert.assertEquals("state;argument;state;argument;"
+                + "java.lang.IllegalStateException ... repeated 4 times;state;", logText);
+    }
+
+    @Test
+    public void testFlightRecorderEvents() throws IOException {
+        Logger istackLogger = Logger.getLogger(LoggerTest.class);
+        Path file = Files.createTempFile("istack", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MethodCallEvent.NAME);
+            recording.enable(LogMessageEvent.NAME);
+            recording.start();
+            Assert.assertTrue(Logger.setFlightRecorderEvents(true));
+            try {
+                istackLogger.entering("param");
+                istackLogger.info("traced");
+                istackLogger.exiting();
+            } finally {
+                Logger.setFlightRecorderEvents(false);
+            }
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Assert.assertEquals(2, events.size());
+            RecordedEvent logged = events.stream()
+                    .filter(e -> LogMessageEvent.NAME.equals(e.getEventType().getName())).findFirst().orElseThrow();
+            Assert.assertEquals("traced", logged.getString("message"));
+            Assert.assertEquals("INFO", logged.getString("level"));
+            Assert.assertEquals("testFlightRecorderEvents", logged.getString("method"));
+            RecordedEvent call = events.stream()
+                    .filter(e -> MethodCallEvent.NAME.equals(e.getEventType().getName())).findFirst().orElseThrow();
+            Assert.assertEquals(LoggerTest.class.getName(), call.getString("component"));
+            Assert.assertEquals("testFlightRecorderEvents", call.getString("method"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testFlightRecorderSkippedExiting() throws IOException, InterruptedException {
+        Logger istackLogger = Logger.getLogger(LoggerTest.class);
+        Path file = Files.createTempFile("istack", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MethodCallEvent.NAME);
+            recording.start();
+            Assert.assertTrue(Logger.setFlightRecorderEvents(true));
+            try {
+                istackLogger.entering();
+                Thread.sleep(100);
+                try {
+                    tracedFailure(istackLogger);
+                } catch (IllegalStateException e) {
+                    // exiting() of the failed call was skipped
+                }
+                istackLogger.exiting();
+            } finally {
+                Logger.setFlightRecorderEvents(false);
+            }
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Assert.assertEquals(1, events.size());
+            // the event spans the outer call, not the failed one
+            Assert.assertTrue(events.get(0).getDuration().toMillis() >= 100);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void tracedFailure(Logger istackLogger) {
+        istackLogger.entering();
+        throw new IllegalStateException();
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SimpleMetricsProviderTest {
+
+    public SimpleMetricsProviderTest() {
+    }
+
+    @Test
+    public void testCounter() {
+        SimpleMetricsProvider provider = new SimpleMetricsProvider();
+        Counter counter = provider.counter("c");
+        Assert.assertSame(counter, provider.counter("c"));
+        counter.increment();
+        counter.add(41);
+        Assert.assertEquals(42, provider.getCounters().get("c").count());
+    }
+
+    @Test
+    public void testGauge() {
+        SimpleMetricsProvider provider = new SimpleMetricsProvider();
+        provider.gauge("g", () -> 7);
+        Assert.assertEquals(7, provider.getGauges().get("g").value());
+    }
+
+    @Test
+    public void testBuckets() {
+        for (long v : new long[] {0, 1, 15, 16, 17, 31, 32, 33, 1000, 123456789, Long.MAX_VALUE}) {
+            int bucket = BucketHistogram.bucket(v);
+            Assert.assertTrue(String.valueOf(v), BucketHistogram.highestValue(bucket) >= v);
+            if (bucket > 0) {
+                Assert.assertTrue(String.valueOf(v), BucketHistogram.highestValue(bucket - 1) < v);
+            }
+            Assert.assertTrue(String.valueOf(v), BucketHistogram.highestValue(bucket) - v <= v / BucketHistogram.SUB_BUCKETS);
+        }
+    }
+
+    @Test
+    public void testHistogram() {
+        Histogram histogram = new SimpleMetricsProvider().histogram("h");
+        Assert.assertEquals(0, histogram.valueAtPercentile(50));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+        Assert.assertEquals(1001, histogram.count());
+        Assert.assertEquals(500500, histogram.sum());
+        Assert.assertEquals(1000, histogram.max());
+        Assert.assertEquals(1000, histogram.valueAtPercentile(100));
+        long median = histogram.valueAtPercentile(50);
+        Assert.assertTrue(String.valueOf(median), median >= 500 && median < 500 + 500 / BucketHistogram.SUB_BUCKETS);
+    }
+
+    @Test
+    public void testNoOp() {
+        Counter counter = NoOpMetrics.INSTANCE.counter("c");
+        counter.increment();
+        Assert.assertEquals(0, counter.count());
+    }
+}
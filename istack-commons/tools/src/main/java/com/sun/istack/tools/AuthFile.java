@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.tools;
+
+import com.sun.istack.tools.DefaultAuthenticator.AuthInfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Parsed content of an auth file of a {@link DefaultAuthenticator}.
+ *
+ * <p>
+ * The file is read at once into a heap buffer, and the usual
+ * {@code http} and {@code https} lines are parsed without creating {@link URL}s
+ * or catching exceptions. Other lines, such as those with IPv6 hosts, are parsed
+ * by {@link URL} the same as before.
+ *
+ * <p>
+ * If a cache directory is set, the parsed content is also stored there, keyed by
+ * the path and the SHA-256 hash of the file, and later reads of the same content
+ * skip the parsing. The cache files contain the passwords in plain text. The cache
+ * directory is created accessible by the owner only where the file system supports
+ * POSIX permissions, and the cache file for the previous content of an auth file
+ * is deleted when a new one is written.
+ */
+final class AuthFile {
+
+    private static final Logger LOGGER = Logger.getLogger(AuthFile.class.getName());
+
+    private static final int CACHE_MAGIC = 0x69734155;
+    private static final int CACHE_VERSION = 2;
+
+    // returned by the fast parser for lines it leaves to java.net.URL
+    private static final AuthInfo UNHANDLED = new AuthInfo("", "", -1, "", "");
+    // returned by the fast parser for lines which are not valid entries
+    private static final AuthInfo INVALID = new AuthInfo("", "", -1, "", "");
+
+    // port with a sign, left to java.net.URL as well
+    private static final int SIGNED = Integer.MIN_VALUE + 1;
+
+    private static volatile Path cacheDirectory;
+
+    static {
+        String dir = System.getProperty("com.sun.istack.tools.DefaultAuthenticator.cacheDir");
+        if (dir != null && !dir.isEmpty()) {
+            cacheDirectory = Paths.get(dir);
+        }
+    }
+
+    final List<AuthInfo> entries;
+    final List<ParsingError> errors;
+    // number of lines parsed
+    final int lines;
+    // error which stopped reading the file, the lines read before it are parsed
+    final IOException failure;
+
+    private AuthFile(List<AuthInfo> entries, List<ParsingError> errors, int lines, IOException failure) {
+        this.entries = entries;
+        this.errors = errors;
+        this.lines = lines;
+        this.failure = failure;
+    }
+
+    static void setCacheDirectory(Path dir) {
+        cacheDirectory = dir;
+    }
+
+    /**
+     * @param channel the auth file content
+     * @param source the auth file, identifies its cache files
+     */
+    static AuthFile read(FileChannel channel, Path source) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("auth file too large: " + size);
+        }
+        // not mapped, the mapping would keep the file from being replaced on Windows until GC
+        ByteBuffer content = ByteBuffer.allocate((int) size);
+        try {
+            while (content.hasRemaining() && channel.read(content) >= 0) {
+                // read all
+            }
+        } catch (IOException e) {
+            // parse the complete lines read so far, as the line by line reading did
+            content.flip();
+            int end = content.limit();
+            while (end > 0 && content.get(end - 1) != '\n' && content.get(end - 1) != '\r') {
+                end--;
+            }
+            content.limit(end);
+            AuthFile partial = parse(StandardCharsets.UTF_8.decode(content).toString());
+            return new AuthFile(partial.entries, partial.errors, partial.lines, e);
+        }
+        content.flip();
+
+        Path dir = cacheDirectory;
+        if (dir == null) {
+            return parse(StandardCharsets.UTF_8.decode(content).toString());
+        }
+        String sourceKey = hash(StandardCharsets.UTF_8.encode(source.toAbsolutePath().toString())).substring(0, 16);
+        Path cached = dir.resolve(sourceKey + '-' + hash(content.duplicate()) + ".auth");
+        AuthFile file = readCache(cached);
+        if (file == null) {
+            file = parse(StandardCharsets.UTF_8.decode(content).toString());
+            writeCache(dir, sourceKey, cached, file);
+        }
+        return file;
+    }
+
+    static AuthFile parse(String content) {
+        List<AuthInfo> entries = new ArrayList<>();
+        List<ParsingError> errors = new ArrayList<>(0);
+        int length = content.length();
+        int pos = 0;
+        int lineno = 0;
+        // lines end the same as for BufferedReader.readLine()
+        while (pos < length) {
+            int end = pos;
+            char c = 0;
+            while (end < length && (c = content.charAt(end)) != '\n' && c != '\r') {
+                end++;
+            }
+            String text = content.substring(pos, end);
+            lineno++;
+            pos = c == '\r' && end + 1 < length && content.charAt(end + 1) == '\n' ? end + 2 : end + 1;
+
+            //ignore empty lines and treat those starting with '#' as comments
+            if (text.isBlank() || text.startsWith("#")) {
+                continue;
+            }
+            AuthInfo ai = parseLine(text);
+            if (ai == null) {
+                errors.add(new ParsingError(lineno, text));
+            } else {
+                entries.add(ai);
+            }
+        }
+        return new AuthFile(entries, errors, lineno, null);
+    }
+
+    /**
+     * @param text line of an auth file
+     * @return the entry, or {@code null} if the line is not valid
+     */
+    static AuthInfo parseLine(String text) {
+        AuthInfo ai = parseFast(text.trim());
+        if (ai == UNHANDLED) {
+            return parseURL(text);
+        }
+        return ai == INVALID ? null : ai;
+    }
+
+    /**
+     * Parses a line the same as {@link #parseURL(String)} without exceptions.
+     */
+    private static AuthInfo parseFast(String s) {
+        int colon = s.indexOf(':');
+        String protocol = s.substring(0, Math.max(colon, 0)).toLowerCase(Locale.ROOT);
+        // other protocols have handlers parsing differently
+        if (!("http".equals(protocol) || "https".equals(protocol)) || !s.startsWith("//", colon + 1)) {
+            return UNHANDLED;
+        }
+        int start = colon + 3;
+
+        // as java.net.URL parses the line
+        int limit = limit(s, 0);
+        int end = authorityEnd(s, start, limit);
+        int at = s.indexOf('@', start);
+        if (at >= end) {
+            at = -1;
+        } else if (at >= 0) {
+            int next = s.indexOf('@', at + 1);
+            if (next >= 0 && next < end) {
+                // not server based, there is no user info
+                return INVALID;
+            }
+        }
+        int hostStart = at < 0 ? start : at + 1;
+        if (hostStart < end && s.charAt(hostStart) == '[') {
+            return UNHANDLED;
+        }
+        int port = port(s, hostStart, end);
+        if (port == SIGNED) {
+            return UNHANDLED;
+        }
+        if (port != Integer.MIN_VALUE) {
+            if (at < 0) {
+                return INVALID;
+            }
+            int i = s.indexOf(':', start);
+            if (i < 0 || i > at) {
+                return INVALID;
+            }
+            String password = decode(s.substring(i + 1, at));
+            if (password == null) {
+                return INVALID;
+            }
+            return create(protocol, s, hostStart, end, port, limit, s.substring(start, i), password);
+        }
+
+        // java.net.URL would fail, the password is then taken as it is
+        // between the 2nd ':' and the last '@'
+        int i = s.indexOf(':', colon + 1) + 1;
+        int j = s.lastIndexOf('@');
+        if (i == 0 || j < i) {
+            return INVALID;
+        }
+        for (int k = start; k < i; k++) {
+            char c = s.charAt(k);
+            if (c == '/' || c == '?' || c == '#') {
+                return UNHANDLED;
+            }
+            if (c == '@') {
+                // more than one '@' after the password is encoded
+                return INVALID;
+            }
+        }
+        limit = limit(s, j);
+        end = authorityEnd(s, j, limit);
+        if (j + 1 < end && s.charAt(j + 1) == '[') {
+            return UNHANDLED;
+        }
+        port = port(s, j + 1, end);
+        if (port == SIGNED) {
+            return UNHANDLED;
+        }
+        if (port == Integer.MIN_VALUE) {
+            return INVALID;
+        }
+        return create(protocol, s, j + 1, end, port, limit, s.substring(start, i - 1), s.substring(i, j));
+    }
+
+    private static AuthInfo create(String protocol, String s, int hostStart, int hostEnd, int port,
+                                   int limit, String user, String password) {
+        String file = s.substring(hostEnd, limit);
+        int colon = s.indexOf(':', hostStart);
+        String host = s.substring(hostStart, colon < 0 || colon > hostEnd ? hostEnd : colon);
+        StringBuilder url = new StringBuilder(protocol.length() + s.length());
+        url.append(protocol).append(':');
+        if (!host.isEmpty() || port != -1) {
+            url.append("//").append(host);
+            if (port != -1) {
+                url.append(':').append(port);
+            }
+        }
+        url.append(file);
+        return new AuthInfo(url.toString(), host, port, user, password);
+    }
+
+    private static int limit(String s, int from) {
+        int i = s.indexOf('#', from);
+        return i < 0 ? s.length() : i;
+    }
+
+    /**
+     * @return index of the first '/' or '?' of the authority, or the limit
+     */
+    private static int authorityEnd(String s, int start, int limit) {
+        for (int i = start; i < limit; i++) {
+            char c = s.charAt(i);
+            if (c == '/' || c == '?') {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * @return the port, {@code -1} if there is none, {@link Integer#MIN_VALUE} if it is not valid,
+     *      or {@link #SIGNED} if it has a sign
+     */
+    private static int port(String s, int hostStart, int end) {
+        int colon = s.indexOf(':', hostStart);
+        if (colon < 0 || colon >= end) {
+            return -1;
+        }
+        if (colon + 1 == end) {
+            return -1;
+        }
+        long port = 0;
+        for (int i = colon + 1; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == '+' || c == '-') {
+                return SIGNED;
+            }
+            if (c < '0' || c > '9') {
+                return Integer.MIN_VALUE;
+            }
+            port = port * 10 + (c - '0');
+            if (port > Integer.MAX_VALUE) {
+                return Integer.MIN_VALUE;
+            }
+        }
+        return (int) port;
+    }
+
+    /**
+     * Decodes the same as {@link URLDecoder}.
+     *
+     * @return the decoded string, or {@code null} if it is not valid
+     */
+    private static String decode(String s) {
+        if (s.indexOf('%') < 0 && s.indexOf('+') < 0) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        ByteArrayOutputStream bytes = null;
+        int i = 0;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (c == '+') {
+                sb.append(' ');
+                i++;
+            } else if (c == '%') {
+                if (bytes == null) {
+                    bytes = new ByteArrayOutputStream();
+                } else {
+                    bytes.reset();
+                }
+                while (i < s.length() && s.charAt(i) == '%') {
+                    if (i + 2 >= s.length()) {
+                        return null;
+                    }
+                    int hi = Character.digit(s.charAt(i + 1), 16);
+                    int lo = Character.digit(s.charAt(i + 2), 16);
+                    if (hi < 0 || lo < 0) {
+                        return null;
+                    }
+                    bytes.write((hi << 4) | lo);
+                    i += 3;
+                }
+                sb.append(bytes.toString(StandardCharsets.UTF_8));
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parses a line with {@link URL}, retrying with an encoded password if it fails.
+     *
+     * @param text line of an auth file
+     * @return the entry, or {@code null} if the line is not valid
+     */
+    static AuthInfo parseURL(String text) {
+        try {
+            URL url;
+            try {
+                url = new URL(text);
+            } catch (MalformedURLException mue) {
+                //possible cause of this can be that password contains
+                //character which has to be encoded in URL,
+                //such as '@', ')', '#' and few others
+                //so try to recreate the URL with encoded string
+                //between 2nd ':' and last '@'
+                int i = text.indexOf(':', text.indexOf(':') + 1) + 1;
+                int j = text.lastIndexOf('@');
+                String encodedUrl =
+                        text.substring(0, i)
+                        + URLEncoder.encode(text.substring(i, j), StandardCharsets.UTF_8)
+                        + text.substring(j);
+                url = new URL(encodedUrl);
+            }
+
+            String authinfo = url.getUserInfo();
+
+            if (authinfo != null) {
+                int i = authinfo.indexOf(':');
+
+                if (i >= 0) {
+                    String user = authinfo.substring(0, i);
+                    String password = authinfo.substring(i + 1);
+                    return new AuthInfo(
+                            new URL(url.getProtocol(), url.getHost(), url.getPort(), url.getFile()),
+                            user, URLDecoder.decode(password, StandardCharsets.UTF_8));
+                }
+            }
+        } catch (MalformedURLException | RuntimeException e) {
+            // not valid
+        }
+        return null;
+    }
+
+    private static String hash(ByteBuffer content) {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        md.update(content);
+        StringBuilder sb = new StringBuilder(64);
+        for (byte b : md.digest()) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static AuthFile readCache(Path cached) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cached)))) {
+            if (in.readInt() != CACHE_MAGIC || in.readInt() != CACHE_VERSION) {
+                return null;
+            }
+            int count = in.readInt();
+            List<AuthInfo> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(new AuthInfo(in.readUTF(), in.readUTF(), in.readInt(), in.readUTF(), in.readUTF()));
+            }
+            count = in.readInt();
+            List<ParsingError> errors = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                errors.add(new ParsingError(in.readInt(), in.readUTF()));
+            }
+            return new AuthFile(entries, errors, in.readInt(), null);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Cannot read auth cache " + cached, e);
+            return null;
+        }
+    }
+
+    private static void writeCache(Path dir, String sourceKey, Path cached, AuthFile file) {
+        Path tmp = null;
+        try {
+            if (dir.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(
+                        PosixFilePermissions.fromString("rwx------")));
+            } else {
+                Files.createDirectories(dir);
+            }
+            // temporary files are only accessible by the owner
+            tmp = Files.createTempFile(dir, "auth", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(CACHE_MAGIC);
+                out.writeInt(CACHE_VERSION);
+                out.writeInt(file.entries.size());
+                for (AuthInfo ai : file.entries) {
+                    out.writeUTF(ai.getURL());
+                    out.writeUTF(ai.getHost());
+                    out.writeInt(ai.getPort());
+                    out.writeUTF(ai.getUser());
+                    out.writeUTF(ai.getPassword());
+                }
+                out.writeInt(file.errors.size());
+                for (ParsingError e : file.errors) {
+                    out.writeInt(e.line);
+                    out.writeUTF(e.text);
+                }
+                out.writeInt(file.lines);
+            }
+            Files.move(tmp, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+            // the passwords of the previous content must not stay around
+            try (DirectoryStream<Path> previous = Files.newDirectoryStream(dir, sourceKey + "-*.auth")) {
+                for (Path p : previous) {
+                    if (!p.equals(cached)) {
+                        Files.deleteIfExists(p);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Cannot write auth cache " + cached, e);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ex) {
+                    LOGGER.log(Level.FINE, null, ex);
+                }
+            }
+        }
+    }
+
+    static final class ParsingError {
+        final int line;
+        final String text;
+
+        ParsingError(int line, String text) {
+            this.line = line;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.tools;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches an auth file of a {@link DefaultAuthenticator} for changes
+ * on a daemon thread.
+ *
+ * <p>
+ * The file is reloaded whenever it is created or modified, and its entries
+ * are removed when it is deleted. The events of a file being written are
+ * coalesced, the file is only reloaded once no more events arrived for
+ * {@value #QUIET_PERIOD} milliseconds.
+ */
+final class AuthFileWatcher implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(AuthFileWatcher.class.getName());
+
+    static final long QUIET_PERIOD = 100;
+
+    private final Path file;
+    private final Runnable reload;
+    private final Runnable remove;
+    private final WatchService service;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * Starts watching the directory of the file, changes are only acted on
+     * after {@link #start()}.
+     */
+    AuthFileWatcher(Path file, Runnable reload, Runnable remove) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.reload = reload;
+        this.remove = remove;
+        Path dir = this.file.getParent();
+        this.service = dir.getFileSystem().newWatchService();
+        try {
+            dir.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException | RuntimeException e) {
+            service.close();
+            throw e;
+        }
+        this.thread = new Thread(this::run, "istack-auth-watcher-" + this.file.getFileName());
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    private void run() {
+        try {
+            while (!closed) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                boolean valid = true;
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        changed |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                                || file.getFileName().equals(event.context());
+                    }
+                    valid = key.reset();
+                    // wait until the file is no longer being written
+                    key = changed && valid ? service.poll(QUIET_PERIOD, TimeUnit.MILLISECONDS) : null;
+                }
+                if ((changed || !valid) && !closed) {
+                    // the events may be stale, the file itself tells what to do
+                    try {
+                        if (Files.isRegularFile(file)) {
+                            reload.run();
+                        } else {
+                            remove.run();
+                        }
+                    } catch (RuntimeException e) {
+                        LOGGER.log(Level.SEVERE, e.getMessage(), e);
+                    }
+                }
+                if (!valid) {
+                    // the directory is gone
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    /**
+     * Stops watching the file. A reload in progress is completed before
+     * this method returns, no changes are published afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        service.close();
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.tools;
+
+import com.sun.istack.tools.DefaultAuthenticator.AuthInfo;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable table of the authorization entries of a {@link DefaultAuthenticator},
+ * indexed by host and port.
+ *
+ * <p>
+ * The entries come from sources, typically auth files, in the order the sources
+ * were added. Changes create a new table, so that a table can be shared with any
+ * number of concurrent lookups.
+ *
+ * <p>
+ * A requesting URL is only matched against the entries for its host and port,
+ * and against the entries with a wildcard in the host. The first entry
+ * in the table order which matches wins.
+ */
+final class AuthTable {
+
+    static final AuthTable EMPTY = new AuthTable(List.of());
+
+    private final List<Source> sources;
+    private final Map<String, List<Entry>> hosts = new HashMap<>();
+    private final List<Entry> wildcardHosts = new ArrayList<>();
+    private final int size;
+
+    private AuthTable(List<Source> sources) {
+        this.sources = sources;
+        int order = 0;
+        for (Source source : sources) {
+            for (AuthInfo info : source.entries) {
+                Entry e = new Entry(order++, info);
+                if (info.getHost().indexOf('*') >= 0) {
+                    wildcardHosts.add(e);
+                } else {
+                    hosts.computeIfAbsent(key(info.getHost(), info.getPort()), k -> new ArrayList<>(1)).add(e);
+                }
+            }
+        }
+        this.size = order;
+    }
+
+    /**
+     * Returns a table with the entries of the source replaced. The entries of
+     * a source not in this table are added after all the others.
+     *
+     * @param source identity of the source
+     * @param entries the entries of the source, may be empty
+     * @return the new table
+     */
+    AuthTable with(Object source, List<AuthInfo> entries) {
+        List<Source> updated = new ArrayList<>(sources.size() + 1);
+        Source replacement = new Source(source, List.copyOf(entries));
+        boolean found = false;
+        for (Source s : sources) {
+            if (s.id == source) {
+                updated.add(replacement);
+                found = true;
+            } else {
+                updated.add(s);
+            }
+        }
+        if (!found) {
+            updated.add(replacement);
+        }
+        return new AuthTable(updated);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param requestingURL the URL to authenticate access to
+     * @return the first matching entry, or {@code null} if there is none
+     */
+    AuthInfo find(URL requestingURL) {
+        String url = requestingURL.toExternalForm();
+        Entry found = null;
+        List<Entry> candidates = hosts.get(key(requestingURL.getHost(), requestingURL.getPort()));
+        if (candidates != null) {
+            for (Entry e : candidates) {
+                if (e.info.matches(url)) {
+                    found = e;
+                    break;
+                }
+            }
+        }
+        for (Entry e : wildcardHosts) {
+            if (found != null && e.order > found.order) {
+                break;
+            }
+            if (e.info.matches(url)) {
+                found = e;
+                break;
+            }
+        }
+        return found == null ? null : found.info;
+    }
+
+    private static String key(String host, int port) {
+        return host.toLowerCase(Locale.ROOT) + ':' + port;
+    }
+
+    private static final class Source {
+        final Object id;
+        final List<AuthInfo> entries;
+
+        Source(Object id, List<AuthInfo> entries) {
+            this.id = id;
+            this.entries = entries;
+        }
+    }
+
+    private static final class Entry {
+        final int order;
+        final AuthInfo info;
+
+        Entry(int order, AuthInfo info) {
+            this.order = order;
+            this.info = info;
+        }
+    }
+}
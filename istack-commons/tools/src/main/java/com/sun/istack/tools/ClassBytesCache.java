@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.tools;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process wide cache of class file bytes read from jar files by
+ * {@link ParallelWorldClassLoader}s.
+ *
+ * <p>
+ * The entries are keyed by the jar file path, its modification time and the entry
+ * name, so a rebuilt jar file is never served from stale entries. The entries are
+ * spread over segments with their own locks and share of the capacity, so that
+ * concurrent class loading does not contend on one lock. The least recently used
+ * entries of a segment are evicted once its cached bytes exceed its capacity.
+ */
+final class ClassBytesCache {
+
+    // capacity per segment below which fewer segments are used
+    private static final long MIN_SEGMENT_CAPACITY = 256 * 1024;
+    private static final int MAX_SEGMENTS = 16;
+
+    private static volatile ClassBytesCache instance;
+
+    static {
+        if (Boolean.getBoolean("com.sun.istack.tools.ParallelWorldClassLoader.classCache")) {
+            instance = new ClassBytesCache(Long.getLong(
+                    "com.sun.istack.tools.ParallelWorldClassLoader.classCacheSize", 64L * 1024 * 1024));
+        }
+    }
+
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ClassBytesCache(long capacity) {
+        int count = (int) Math.max(1, Math.min(MAX_SEGMENTS, capacity / MIN_SEGMENT_CAPACITY));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(capacity / count);
+        }
+    }
+
+    /**
+     * @return the cache, or {@code null} if caching is disabled
+     */
+    static ClassBytesCache get() {
+        return instance;
+    }
+
+    static synchronized void configure(long capacity) {
+        instance = capacity > 0 ? new ClassBytesCache(capacity) : null;
+    }
+
+    byte[] get(String jar, long lastModified, String entry) {
+        Key key = new Key(jar, lastModified, entry);
+        byte[] b = segment(key).get(key);
+        if (b == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return b;
+    }
+
+    void put(String jar, long lastModified, String entry, byte[] bytes) {
+        Key key = new Key(jar, lastModified, entry);
+        segment(key).put(key, bytes);
+    }
+
+    private Segment segment(Key key) {
+        int h = key.hashCode();
+        return segments[Math.floorMod(h ^ (h >>> 16), segments.length)];
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    long getSize() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.getSize();
+        }
+        return size;
+    }
+
+    private static final class Segment {
+        private final long capacity;
+        // guarded by this
+        private final Map<Key, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+        // guarded by this
+        private long size;
+
+        Segment(long capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized byte[] get(Key key) {
+            return entries.get(key);
+        }
+
+        void put(Key key, byte[] bytes) {
+            if (bytes.length > capacity) {
+                return;
+            }
+            synchronized (this) {
+                byte[] old = entries.put(key, bytes);
+                size += bytes.length - (old == null ? 0 : old.length);
+                Iterator<byte[]> it = entries.values().iterator();
+                while (size > capacity && it.hasNext()) {
+                    size -= it.next().length;
+                    it.remove();
+                }
+            }
+        }
+
+        synchronized long getSize() {
+            return size;
+        }
+    }
+
+    private static final class Key {
+        private final String jar;
+        private final long lastModified;
+        private final String entry;
+
+        Key(String jar, long lastModified, String entry) {
+            this.jar = jar;
+            this.lastModified = lastModified;
+            this.entry = entry;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key k = (Key) o;
+            return lastModified == k.lastModified && entry.equals(k.entry) && jar.equals(k.jar);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jar, lastModified, entry);
+        }
+    }
+}
@@ -14,21 +14,17 @@ package com.sun.istack.tools;
 import org.xml.sax.Locator;
 import org.xml.sax.helpers.LocatorImpl;
 
-import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.Authenticator;
-import java.net.MalformedURLException;
 import java.net.PasswordAuthentication;
 import java.net.URL;
-import java.net.URLDecoder;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.nio.channels.FileChannel;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -42,12 +38,14 @@ public class DefaultAuthenticator extends Authenticator {
     private static final Logger LOGGER = Logger.getLogger(DefaultAuthenticator.class.getName());
     private static DefaultAuthenticator instance;
     private static Authenticator systemAuthenticator = getCurrentAuthenticator();
-    private String proxyUser;
-    private String proxyPasswd;
-    private final List<AuthInfo> authInfo = new ArrayList<>();
+    // never handed out, lookups return copies
+    private volatile PasswordAuthentication proxyAuth;
+    private final AtomicReference<AuthTable> authInfo = new AtomicReference<>(AuthTable.EMPTY);
     private static int counter = 0;
 
     DefaultAuthenticator() {
+        String proxyUser;
+        String proxyPasswd;
         //try undocumented but often used properties
         if (System.getProperty("http.proxyUser") != null) {
             proxyUser = System.getProperty("http.proxyUser");
@@ -59,6 +57,9 @@ public class DefaultAuthenticator extends Authenticator {
         } else {
             proxyPasswd = System.getProperty("proxyPassword");
         }
+        if (proxyUser != null && proxyPasswd != null) {
+            proxyAuth = new PasswordAuthentication(proxyUser, proxyPasswd.toCharArray());
+        }
     }
 
     public static synchronized DefaultAuthenticator getAuthenticator() {
@@ -81,13 +82,14 @@ public class DefaultAuthenticator extends Authenticator {
     protected PasswordAuthentication getPasswordAuthentication() {
         //If user sets proxy user and passwd and the RequestType is from proxy server then create
         // PasswordAuthentication using proxyUser and proxyPasswd;
-        if ((getRequestorType() == RequestorType.PROXY) && proxyUser != null && proxyPasswd != null) {
-            return new PasswordAuthentication(proxyUser, proxyPasswd.toCharArray());
+        PasswordAuthentication proxy = proxyAuth;
+        if ((getRequestorType() == RequestorType.PROXY) && proxy != null) {
+            return new PasswordAuthentication(proxy.getUserName(), proxy.getPassword());
         }
-        for (AuthInfo auth : authInfo) {
-            if (auth.matchingHost(getRequestingURL())) {
-                return new PasswordAuthentication(auth.getUser(), auth.getPassword().toCharArray());
-            }
+        URL url = getRequestingURL();
+        AuthInfo auth = url == null ? null : authInfo.get().find(url);
+        if (auth != null) {
+            return new PasswordAuthentication(auth.getUser(), auth.getPassword().toCharArray());
         }
         return null;
     }
@@ -99,110 +101,129 @@ public class DefaultAuthenticator extends Authenticator {
      */
     public void setProxyAuth(String proxyAuth) {
         if (proxyAuth == null) {
-            this.proxyUser = null;
-            this.proxyPasswd = null;
+            this.proxyAuth = null;
         } else {
             int i = proxyAuth.indexOf(':');
             if (i < 0) {
-                this.proxyUser = proxyAuth;
-                this.proxyPasswd = "";
+                this.proxyAuth = new PasswordAuthentication(proxyAuth, new char[0]);
             } else if (i == 0) {
-                this.proxyUser = "";
-                this.proxyPasswd = proxyAuth.substring(1);
+                this.proxyAuth = new PasswordAuthentication("", proxyAuth.substring(1).toCharArray());
             } else {
-                this.proxyUser = proxyAuth.substring(0, i);
-                this.proxyPasswd = proxyAuth.substring(i + 1);
+                this.proxyAuth = new PasswordAuthentication(proxyAuth.substring(0, i),
+                        proxyAuth.substring(i + 1).toCharArray());
             }
         }
     }
 
+    /**
+     * Adds the authorization entries of the file after the ones already set.
+     *
+     * <p>
+     * The entries are published all at once, lookups running concurrently see
+     * either none or all of them.
+     *
+     * @param f the auth file
+     * @param l receiver of the errors, errors are printed to {@code System.err} if {@code null}
+     */
     public void setAuth(File f, Receiver l) {
+        load(new Object(), f, l == null ? new DefaultRImpl() : l, false);
+    }
+
+    /**
+     * Adds the authorization entries of the file after the ones already set,
+     * and keeps them up to date with the file.
+     *
+     * <p>
+     * The file is watched for changes on a daemon thread. Its entries are
+     * reloaded whenever it is created or modified, and removed when it is
+     * deleted, without blocking concurrent lookups. Errors of the reloads are
+     * reported to the receiver the same as those of the initial load, and the
+     * entries loaded before are kept until the file is read without errors, so
+     * that a partially written file does not replace them.
+     *
+     * @param f the auth file
+     * @param l receiver of the errors, errors are printed to {@code System.err} if {@code null}
+     * @return handle which stops watching the file when closed, no changes are
+     *      published after it is closed and the entries loaded last are kept
+     * @throws IOException if the directory of the file cannot be watched
+     * @since 4.2.1
+     */
+    public Closeable watchAuth(File f, Receiver l) throws IOException {
         Receiver listener = l == null ? new DefaultRImpl() : l;
-        BufferedReader in = null;
-        FileInputStream fi = null;
-        InputStreamReader is = null;
-        try {
-            String text;
-            LocatorImpl locator = new LocatorImpl();
-            locator.setSystemId(f.getAbsolutePath());
-            try {
-                fi = new FileInputStream(f);
-                is = new InputStreamReader(fi, StandardCharsets.UTF_8);
-                in = new BufferedReader(is);
-            } catch (FileNotFoundException e) {
-                listener.onError(e, locator);
-                return;
-            }
-            try {
-                int lineno = 1;
-                locator.setSystemId(f.getCanonicalPath());
-                while ((text = in.readLine()) != null) {
-                    locator.setLineNumber(lineno++);
-                    //ignore empty lines and treat those starting with '#' as comments
-                    if (text.trim().isEmpty() || text.startsWith("#")) {
-                        continue;
-                    }
-                    try {
-                        AuthInfo ai = parseLine(text);
-                        authInfo.add(ai);
-                    } catch (Exception e) {
-                        listener.onParsingError(text, locator);
-                    }
-                }
-            } catch (IOException e) {
-                listener.onError(e, locator);
-                LOGGER.log(Level.SEVERE, e.getMessage(), e);
-            }
-        } finally {
-            try {
-                if (in != null) {
-                    in.close();
-                }
-                if (is != null) {
-                    is.close();
-                }
-                if (fi != null) {
-                    fi.close();
-                }
-            } catch (IOException ex) {
-                LOGGER.log(Level.SEVERE, null, ex);
-            }
+        Object source = new Object();
+        AuthFileWatcher watcher = new AuthFileWatcher(f.toPath(),
+                () -> load(source, f, listener, true),
+                () -> authInfo.updateAndGet(t -> t.with(source, List.of())));
+        load(source, f, listener, false);
+        watcher.start();
+        return watcher;
+    }
+
+    private void load(Object source, File f, Receiver listener, boolean valid) {
+        List<AuthInfo> entries = read(f, listener, valid);
+        if (entries != null) {
+            authInfo.updateAndGet(t -> t.with(source, entries));
         }
     }
 
-    private AuthInfo parseLine(String text) throws Exception {
-        URL url;
+    /**
+     * @param valid whether only a file read without errors yields entries
+     * @return the entries of the file, or {@code null} if it cannot be opened,
+     *      or {@code valid} is {@code true} and there were errors
+     */
+    private List<AuthInfo> read(File f, Receiver listener, boolean valid) {
+        LocatorImpl locator = new LocatorImpl();
+        locator.setSystemId(f.getAbsolutePath());
+        FileInputStream fi;
         try {
-            url = new URL(text);
-        } catch (MalformedURLException mue) {
-            //possible cause of this can be that password contains
-            //character which has to be encoded in URL,
-            //such as '@', ')', '#' and few others
-            //so try to recreate the URL with encoded string
-            //between 2nd ':' and last '@'
-            int i = text.indexOf(':', text.indexOf(':') + 1) + 1;
-            int j = text.lastIndexOf('@');
-            String encodedUrl =
-                    text.substring(0, i)
-                    + URLEncoder.encode(text.substring(i, j), StandardCharsets.UTF_8)
-                    + text.substring(j);
-            url = new URL(encodedUrl);
+            fi = new FileInputStream(f);
+        } catch (FileNotFoundException e) {
+            listener.onError(e, locator);
+            return null;
         }
-
-        String authinfo = url.getUserInfo();
-
-        if (authinfo != null) {
-            int i = authinfo.indexOf(':');
-
-            if (i >= 0) {
-                String user = authinfo.substring(0, i);
-                String password = authinfo.substring(i + 1);
-                return new AuthInfo(
-                        new URL(url.getProtocol(), url.getHost(), url.getPort(), url.getFile()),
-                        user, URLDecoder.decode(password, StandardCharsets.UTF_8));
-            }
+        AuthFile file;
+        try (FileChannel channel = fi.getChannel()) {
+            locator.setSystemId(f.getCanonicalPath());
+            file = AuthFile.read(channel, f.toPath());
+        } catch (IOException e) {
+            listener.onError(e, locator);
+            LOGGER.log(Level.SEVERE, e.getMessage(), e);
+            return valid ? null : List.of();
+        }
+        for (AuthFile.ParsingError e : file.errors) {
+            locator.setLineNumber(e.line);
+            listener.onParsingError(e.text, locator);
         }
-        throw new Exception();
+        if (file.failure != null) {
+            // the entries read before the failure are kept
+            locator.setLineNumber(file.lines);
+            listener.onError(file.failure, locator);
+            LOGGER.log(Level.SEVERE, file.failure.getMessage(), file.failure);
+        }
+        if (valid && (!file.errors.isEmpty() || file.failure != null)) {
+            return null;
+        }
+        return file.entries;
+    }
+
+    /**
+     * Sets the directory where parsed auth files are cached.
+     *
+     * <p>
+     * <b>The cached entries contain the user names and passwords in plain text</b>,
+     * the same as the auth files themselves. The directory is created accessible by
+     * the owner only where the file system supports POSIX permissions, but an existing
+     * directory should be private to the user as well. The cache files are keyed by the
+     * path and the content hash of the auth file, so that changed files are always parsed
+     * again, and the cache file of the previous content is deleted then. The cache
+     * directory can also be set by the
+     * {@code com.sun.istack.tools.DefaultAuthenticator.cacheDir} system property.
+     *
+     * @param dir the cache directory, or {@code null} to disable caching
+     * @since 4.2.1
+     */
+    public static void setAuthCacheDirectory(File dir) {
+        AuthFile.setCacheDirectory(dir == null ? null : dir.toPath());
     }
 
     static Authenticator getCurrentAuthenticator() {
@@ -245,11 +266,41 @@ public class DefaultAuthenticator extends Authenticator {
 
         private final String user;
         private final String password;
+        private final String host;
+        private final int port;
+        private final String url;
+        private final int prefixLength;
+        // only set for URLs with a '*' wildcard, others are compared as they are
         private final Pattern urlPattern;
 
         public AuthInfo(URL url, String user, String password) {
-            String u = url.toExternalForm().replaceFirst("\\?", "\\\\?");
-            this.urlPattern = Pattern.compile(u.replace("*", ".*"), Pattern.CASE_INSENSITIVE);
+            this(url.toExternalForm(), url.getHost(), url.getPort(), user, password);
+        }
+
+        AuthInfo(String url, String host, int port, String user, String password) {
+            this.url = url;
+            this.host = host;
+            this.port = port;
+            int i = this.url.indexOf('*');
+            this.prefixLength = i;
+            if (i < 0) {
+                this.urlPattern = null;
+            } else {
+                StringBuilder regex = new StringBuilder(this.url.length() + 16);
+                int start = 0;
+                do {
+                    if (i > start) {
+                        regex.append(Pattern.quote(this.url.substring(start, i)));
+                    }
+                    regex.append(".*");
+                    start = i + 1;
+                    i = this.url.indexOf('*', start);
+                } while (i >= 0);
+                if (start < this.url.length()) {
+                    regex.append(Pattern.quote(this.url.substring(start)));
+                }
+                this.urlPattern = Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+            }
             this.user = user;
             this.password = password;
         }
@@ -262,12 +313,33 @@ public class DefaultAuthenticator extends Authenticator {
             return password;
         }
 
+        String getURL() {
+            return url;
+        }
+
+        String getHost() {
+            return host;
+        }
+
+        int getPort() {
+            return port;
+        }
+
         /**
          * Returns if the requesting host and port are associated with this
          * {@link AuthInfo}
          */
         public boolean matchingHost(URL requestingURL) {
-            return urlPattern.matcher(requestingURL.toExternalForm()).matches();
+            return matches(requestingURL.toExternalForm());
+        }
+
+        boolean matches(String requestingURL) {
+            if (urlPattern == null) {
+                return url.equalsIgnoreCase(requestingURL);
+            }
+            // the literal part before the first wildcard rules out most URLs without running the pattern
+            return requestingURL.regionMatches(true, 0, url, 0, prefixLength)
+                    && urlPattern.matcher(requestingURL).matches();
         }
     }
 }
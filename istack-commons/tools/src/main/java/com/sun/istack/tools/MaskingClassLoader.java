@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 1997, 2023 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -19,14 +20,25 @@ import java.util.Collection;
  * <p>
  * This code is used to create an isolated environment.
  *
+ * <p>
+ * This class loader is parallel capable, classes of different names
+ * are loaded concurrently. The masks are matched by a binary search, so the
+ * cost of a class load does not grow with the number of masks.
+ *
  * @author Kohsuke Kawaguchi
  */
 public class MaskingClassLoader extends ClassLoader {
 
-    private final String[] masks;
+    private final PrefixSet masks;
+    private final PrefixSet exclusions;
+
+    static {
+        registerAsParallelCapable();
+    }
 
     public MaskingClassLoader(String... masks) {
-        this.masks = masks;
+        this.masks = PrefixSet.of(masks);
+        this.exclusions = PrefixSet.EMPTY;
     }
 
     public MaskingClassLoader(Collection<String> masks) {
@@ -35,18 +47,35 @@ public class MaskingClassLoader extends ClassLoader {
 
     public MaskingClassLoader(ClassLoader parent, String... masks) {
         super(parent);
-        this.masks = masks;
+        this.masks = PrefixSet.of(masks);
+        this.exclusions = PrefixSet.EMPTY;
     }
 
     public MaskingClassLoader(ClassLoader parent, Collection<String> masks) {
         this(parent, masks.toArray(new String[0]));
     }
 
+    /**
+     * Creates a class loader masking the classes whose names start with any of the
+     * {@code masks}, unless they also start with any of the {@code exclusions}.
+     * For example, {@code javax.xml.bind.} masked with {@code javax.xml.bind.annotation.}
+     * excluded hides the JAXB API except for its annotations.
+     *
+     * @param parent the parent class loader
+     * @param masks prefixes of the names of the masked classes
+     * @param exclusions prefixes of the names of the classes not to mask
+     * @since 4.2.1
+     */
+    public MaskingClassLoader(ClassLoader parent, Collection<String> masks, Collection<String> exclusions) {
+        super(parent);
+        this.masks = PrefixSet.of(masks.toArray(new String[0]));
+        this.exclusions = PrefixSet.of(exclusions.toArray(new String[0]));
+    }
+
     @Override
-    protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
-        for (String mask : masks) {
-            if(name.startsWith(mask))
-                throw new ClassNotFoundException();
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (masks.matches(name) && !exclusions.matches(name)) {
+            throw new ClassNotFoundException();
         }
 
         return super.loadClass(name, resolve);
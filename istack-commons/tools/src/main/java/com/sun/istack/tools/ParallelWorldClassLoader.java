@@ -12,11 +12,9 @@
 package com.sun.istack.tools;
 
 import java.io.InputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.net.JarURLConnection;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.MalformedURLException;
@@ -24,8 +22,13 @@ import java.net.URLConnection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.zip.ZipFile;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -71,6 +74,21 @@ import java.util.logging.Logger;
  * (note that X is defined in the  package foo, not
  * {@code bar.foo.X}.
  *
+ * <p>
+ * This class loader is parallel capable, classes of different names
+ * are loaded concurrently.
+ *
+ * <p>
+ * Classes and resources are looked up through the parent class loader, so the
+ * order of its class path is respected. The resources found are indexed by name,
+ * so that later lookups of the same resource do not search the class path again;
+ * resources which were not found are looked up again, as the class path of the
+ * parent may have grown in the meantime. Each jar file classes are found in is opened
+ * once, and its entries under the prefix are indexed, so that further classes found
+ * in it are read directly rather than through a new URL connection. Multi-release
+ * jar files are read for the current runtime version. The jar files are closed
+ * by {@link #close()}.
+ *
  * @author Kohsuke Kawaguchi
  */
 public class ParallelWorldClassLoader extends ClassLoader implements Closeable {
@@ -80,84 +98,112 @@ public class ParallelWorldClassLoader extends ClassLoader implements Closeable {
      * classes should be loaded normally.
      */
     private final String prefix;
-    private final Set<JarFile> jars;
+    // jars opened by this class loader, with their entries under the prefix
+    private final ConcurrentMap<File, JarIndex> indexes = new ConcurrentHashMap<>();
+    // written while holding indexes
+    private volatile boolean closed;
+    // resources found through the parent, by name under the prefix
+    private final ConcurrentMap<String, URL> resources = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<URL>> allResources = new ConcurrentHashMap<>();
+
+    /**
+     * Maximal number of indexed resource names, further ones are looked up each time.
+     */
+    private static final int MAX_RESOURCES = 4096;
+
+    static {
+        registerAsParallelCapable();
+    }
 
     public ParallelWorldClassLoader(ClassLoader parent,String prefix) {
         super(parent);
         this.prefix = prefix;
-        jars = Collections.synchronizedSet(new HashSet<>());
     }
 
     @Override
     protected Class<?> findClass(String name) throws ClassNotFoundException {
 
-        StringBuilder sb = new StringBuilder(name.length()+prefix.length()+6);
-        sb.append(prefix).append(name.replace('.','/')).append(".class");
-
-        URL u  = getParent().getResource(sb.toString());
-        if (u == null) {
-            throw new ClassNotFoundException(name);
-        }
-
-        InputStream is = null;
-        URLConnection con = null;
-
+        String path = name.replace('.', '/') + ".class";
+        byte[] buf;
         try {
-            con = u.openConnection();
-            is = con.getInputStream();
-        } catch (IOException ioe) {
-            throw new ClassNotFoundException(name);
+            URL u = getParent().getResource(prefix + path);
+            if (u == null) {
+                throw new ClassNotFoundException(name);
+            }
+            // read from the very jar the parent found the class in
+            JarIndex index = index(u);
+            buf = index != null ? index.read(path) : null;
+            if (buf == null) {
+                buf = read(u);
+            }
+        } catch (IOException e) {
+            throw new ClassNotFoundException(name, e);
         }
 
-        if (is==null)
-            throw new ClassNotFoundException(name);
-
-        try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            byte[] buf = new byte[1024];
-            int len;
-            while((len=is.read(buf))>=0)
-                baos.write(buf,0,len);
-
-            buf = baos.toByteArray();
-            int packIndex = name.lastIndexOf('.');
-            if (packIndex != -1) {
-                String pkgname = name.substring(0, packIndex);
-                // Check if package already loaded.
-                Package pkg = getDefinedPackage(pkgname);
-                if (pkg == null) {
+        int packIndex = name.lastIndexOf('.');
+        if (packIndex != -1) {
+            String pkgname = name.substring(0, packIndex);
+            // Check if package already loaded.
+            Package pkg = getDefinedPackage(pkgname);
+            if (pkg == null) {
+                try {
                     definePackage(pkgname, null, null, null, null, null, null, null);
+                } catch (IllegalArgumentException e) {
+                    // defined concurrently while loading another class of the package
                 }
             }
-            return defineClass(name,buf,0,buf.length);
-        } catch (IOException e) {
-            throw new ClassNotFoundException(name,e);
-        } finally {
-            try {
-                if (con instanceof JarURLConnection) {
-                    jars.add(((JarURLConnection) con).getJarFile());
-                }
-            } catch (IOException ioe) {
-                //ignore
+        }
+        return defineClass(name, buf, 0, buf.length);
+    }
+
+    /**
+     * Opens and indexes the jar containing the resource, unless it is already indexed.
+     * @return the index, or {@code null} if the resource is not in a jar file
+     */
+    private JarIndex index(URL resource) {
+        File file;
+        try {
+            file = new File(toJarUrl(resource).toURI());
+        } catch (ClassNotFoundException | URISyntaxException | MalformedURLException | IllegalArgumentException e) {
+            // not a jar file
+            return null;
+        }
+        JarIndex index = indexes.get(file);
+        if (index != null || closed) {
+            return index;
+        }
+        // opening a jar file is rare, and must not race with close()
+        synchronized (indexes) {
+            index = indexes.get(file);
+            if (index != null || closed) {
+                return index;
             }
             try {
-                is.close();
-            } catch (IOException ioe) {
-                //ignore
+                index = new JarIndex(file, prefix);
+                indexes.put(file, index);
+                return index;
+            } catch (IOException e) {
+                Logger.getLogger(ParallelWorldClassLoader.class.getName()).log(Level.FINE, null, e);
+                return null;
             }
         }
     }
 
+    private static byte[] read(URL u) throws IOException {
+        URLConnection con = u.openConnection();
+        con.setUseCaches(false);
+        try (InputStream is = con.getInputStream()) {
+            return is.readAllBytes();
+        }
+    }
+
     @Override
     protected URL findResource(String name) {
-        URL u = getParent().getResource(prefix + name);
-        if (u != null) {
-            try {
-                jars.add(new JarFile(new File(toJarUrl(u).toURI())));
-            } catch (URISyntaxException | IOException ex) {
-                Logger.getLogger(ParallelWorldClassLoader.class.getName()).log(Level.WARNING, null, ex);
-            } catch (ClassNotFoundException ex) {
-                //ignore - not a jar
+        URL u = resources.get(name);
+        if (u == null) {
+            u = getParent().getResource(prefix + name);
+            if (u != null && resources.size() < MAX_RESOURCES) {
+                resources.putIfAbsent(name, u);
             }
         }
         return u;
@@ -165,25 +211,74 @@ public class ParallelWorldClassLoader extends ClassLoader implements Closeable {
 
     @Override
     protected Enumeration<URL> findResources(String name) throws IOException {
-        Enumeration<URL> en = getParent().getResources(prefix + name);
-        while (en.hasMoreElements()) {
-            try {
-                jars.add(new JarFile(new File(toJarUrl(en.nextElement()).toURI())));
-            } catch (URISyntaxException | IOException ex) {
-                //should not happen
-                Logger.getLogger(ParallelWorldClassLoader.class.getName()).log(Level.WARNING, null, ex);
-            } catch (ClassNotFoundException ex) {
-                //ignore - not a jar
+        List<URL> all = allResources.get(name);
+        if (all == null) {
+            all = Collections.list(getParent().getResources(prefix + name));
+            if (!all.isEmpty() && allResources.size() < MAX_RESOURCES) {
+                allResources.putIfAbsent(name, all);
             }
         }
-        return en;
+        return Collections.enumeration(all);
     }
 
     @Override
-    public synchronized void close() throws IOException {
-        for (JarFile jar : jars) {
-            jar.close();
+    public void close() throws IOException {
+        IOException failure = null;
+        synchronized (indexes) {
+            closed = true;
+            for (JarIndex index : indexes.values()) {
+                try {
+                    index.jar.close();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            indexes.clear();
+        }
+        resources.clear();
+        allResources.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Enables the process wide cache of class file bytes shared by all parallel world
+     * class loaders, so that a new class loader over the same jar files does not have to
+     * read the classes again. Entries are keyed by the jar file path, its modification
+     * time and the entry name. Setting a new capacity discards the cached classes.
+     *
+     * <p>
+     * The cache can also be enabled at startup with the
+     * {@code com.sun.istack.tools.ParallelWorldClassLoader.classCache} system property,
+     * using {@code com.sun.istack.tools.ParallelWorldClassLoader.classCacheSize} as the
+     * capacity (default 64 MB).
+     *
+     * @param capacity maximal number of cached bytes, {@code 0} or less to disable the cache
+     * @since 4.2.1
+     */
+    public static void setClassCacheCapacity(long capacity) {
+        ClassBytesCache.configure(capacity);
+    }
+
+    /**
+     * @return fraction of the class reads served from the class cache,
+     *      or {@code 0} if the cache is disabled or has not been used yet
+     * @see #setClassCacheCapacity(long)
+     * @since 4.2.1
+     */
+    public static double getClassCacheHitRate() {
+        ClassBytesCache cache = ClassBytesCache.get();
+        if (cache == null) {
+            return 0;
         }
+        long hits = cache.getHits();
+        long total = hits + cache.getMisses();
+        return total == 0 ? 0 : (double) hits / total;
     }
 
     /**
@@ -202,4 +297,56 @@ public class ParallelWorldClassLoader extends ClassLoader implements Closeable {
         url = url.replace(" ", "%20"); // support white spaces in path
         return new URL(url);
     }
+
+    /**
+     * Open jar file with the names of its entries under the prefix, without the prefix.
+     */
+    private static final class JarIndex {
+
+        final JarFile jar;
+        private final Set<String> entries = new HashSet<>();
+        private final String prefix;
+        private final String jarPath;
+        private final long lastModified;
+
+        JarIndex(File file, String prefix) throws IOException {
+            this.prefix = prefix;
+            this.jarPath = file.getAbsolutePath();
+            this.lastModified = file.lastModified();
+            this.jar = new JarFile(file, true, ZipFile.OPEN_READ, Runtime.version());
+            Enumeration<JarEntry> en = jar.entries();
+            while (en.hasMoreElements()) {
+                JarEntry e = en.nextElement();
+                String name = e.getName();
+                if (name.startsWith(prefix) && !e.isDirectory()) {
+                    entries.add(name.substring(prefix.length()));
+                }
+            }
+        }
+
+        /**
+         * @return the bytes of the entry, or {@code null} if there is none
+         */
+        byte[] read(String path) throws IOException {
+            if (!entries.contains(path)) {
+                return null;
+            }
+            // the version of the entry for the current runtime
+            JarEntry e = jar.getJarEntry(prefix + path);
+            if (e == null) {
+                return null;
+            }
+            ClassBytesCache cache = ClassBytesCache.get();
+            byte[] b = cache != null ? cache.get(jarPath, lastModified, e.getRealName()) : null;
+            if (b == null) {
+                try (InputStream is = jar.getInputStream(e)) {
+                    b = is.readAllBytes();
+                }
+                if (cache != null) {
+                    cache.put(jarPath, lastModified, e.getRealName(), b);
+                }
+            }
+            return b;
+        }
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable set of string prefixes, matched by binary search.
+ *
+ * <p>
+ * Prefixes covered by a shorter one are dropped when the set is built, so that
+ * of the sorted prefixes only the greatest one not greater than a string can be its prefix.
+ */
+final class PrefixSet {
+
+    static final PrefixSet EMPTY = new PrefixSet(new String[0]);
+
+    private final String[] prefixes;
+
+    private PrefixSet(String[] prefixes) {
+        this.prefixes = prefixes;
+    }
+
+    static PrefixSet of(String... prefixes) {
+        if (prefixes.length == 0) {
+            return EMPTY;
+        }
+        String[] sorted = prefixes.clone();
+        Arrays.sort(sorted);
+        List<String> minimal = new ArrayList<>(sorted.length);
+        for (String p : sorted) {
+            // a covering prefix sorts right before the prefixes it covers
+            if (minimal.isEmpty() || !p.startsWith(minimal.get(minimal.size() - 1))) {
+                minimal.add(p);
+            }
+        }
+        return new PrefixSet(minimal.toArray(new String[0]));
+    }
+
+    /**
+     * @param s the string
+     * @return {@code true} if any of the prefixes is a prefix of {@code s}
+     */
+    boolean matches(String s) {
+        int i = Arrays.binarySearch(prefixes, s);
+        if (i >= 0) {
+            return true;
+        }
+        int candidate = -i - 2;
+        return candidate >= 0 && s.startsWith(prefixes[candidate]);
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 1997, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -10,9 +11,12 @@
 package com.sun.istack.tools;
 
 import java.io.Closeable;
+import org.apache.tools.ant.BuildEvent;
 import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.DynamicConfigurator;
 import org.apache.tools.ant.IntrospectionHelper;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.SubBuildListener;
 import org.apache.tools.ant.Task;
 
 import java.io.IOException;
@@ -21,6 +25,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import org.apache.tools.ant.AntClassLoader;
 
 /**
@@ -33,6 +40,15 @@ import org.apache.tools.ant.AntClassLoader;
 public abstract class ProtectedTask extends Task implements DynamicConfigurator {
 
     private final AntElement root = new AntElement("root");
+    private Boolean reuseClassLoader;
+    private Boolean workerThread;
+    // worker thread running the driver, and its output to be handled on the executing thread
+    private volatile Thread worker;
+    private volatile BlockingQueue<Runnable> forwarded;
+    // worker thread which did not stop in time, still using the driver and its class loader
+    private Thread abandonedWorker;
+    private static final Runnable DONE = () -> { };
+    private static final long WORKER_STOP_TIMEOUT = 30000;
 
     public ProtectedTask() {
         super();
@@ -56,23 +72,38 @@ public abstract class ProtectedTask extends Task implements DynamicConfigurator
         // so that the XJC2 classes in the parent class loader
         //  won't interfere with loading XJC1 classes in a child class loader
         ClassLoader ccl = Thread.currentThread().getContextClassLoader();
+        Object key = isReuseClassLoader() ? getClassLoaderKey() : null;
+        IsolationCache cache = key != null ? IsolationCache.of(getProject()) : null;
+        ClassLoader cl = null;
         try {
-            ClassLoader cl = createClassLoader();
-            @SuppressWarnings("unchecked")
-            Class<Task> driver = (Class<Task>) cl.loadClass(getCoreClassName());
+            Class<Task> driver;
+            if (cache != null) {
+                Isolation isolation = cache.get(key, this, ccl);
+                cl = isolation.loader;
+                driver = isolation.driver;
+            } else {
+                cl = createClassLoader();
+                driver = loadDriver(cl);
+            }
 
             Task t = driver.getDeclaredConstructor().newInstance();
             t.setProject(getProject());
             t.setTaskName(getTaskName());
             root.configure(t);
 
-            Thread.currentThread().setContextClassLoader(cl);
             try {
-                t.execute();
+                if (isWorkerThread()) {
+                    executeInWorker(t, cl);
+                } else {
+                    Thread.currentThread().setContextClassLoader(cl);
+                    t.execute();
+                }
             } finally {
                 driver = null;
-                t.setTaskName(null);
-                t.setProject(null);
+                if (abandonedWorker == null) {
+                    t.setTaskName(null);
+                    t.setProject(null);
+                }
                 t = null;
             }
         } catch (UnsupportedClassVersionError e) {
@@ -80,19 +111,247 @@ public abstract class ProtectedTask extends Task implements DynamicConfigurator
         } catch (ReflectiveOperationException | IOException e) {
             throw new BuildException(e);
         } finally {
-            ClassLoader cl = Thread.currentThread().getContextClassLoader();
             Thread.currentThread().setContextClassLoader(ccl);
+            if (cache == null && abandonedWorker == null) {
+                closeClassLoaders(cl, ccl);
+            }
+            abandonedWorker = null;
+            cl = null;
+        }
+    }
+
+    /**
+     * Whether the isolated class loader and the driver class are kept for further
+     * executions of this kind of task, until the build finishes. It is enabled by
+     * the {@code reuseclassloader} attribute of the task, or for all tasks by the
+     * {@code com.sun.istack.tools.ProtectedTask.reuseClassLoader} project property.
+     * The class loader is only reused by tasks which define a
+     * {@link #getClassLoaderKey() class loader key}.
+     *
+     * @return {@code true} to reuse the class loader
+     * @see #getClassLoaderKey()
+     * @since 4.2.1
+     */
+    protected boolean isReuseClassLoader() {
+        if (reuseClassLoader != null) {
+            return reuseClassLoader;
+        }
+        return getProject() != null
+                && Boolean.parseBoolean(getProject().getProperty("com.sun.istack.tools.ProtectedTask.reuseClassLoader"));
+    }
+
+    /**
+     * Sets whether to reuse the isolated class loader, see {@link #isReuseClassLoader()}.
+     *
+     * @param reuseClassLoader {@code true} to reuse the class loader
+     * @since 4.2.1
+     */
+    public void setReuseClassLoader(boolean reuseClassLoader) {
+        this.reuseClassLoader = reuseClassLoader;
+    }
+
+    /**
+     * Returns the key under which a reused class loader is cached. The key has to
+     * include everything {@link #createClassLoader()} depends on, such as the attributes
+     * and nested class path elements of the task, so that tasks with the same key can
+     * share the class loader. The default key is {@code null}: this class does not know
+     * what the class loader depends on, so it is not reused.
+     *
+     * @return key identifying the class loader, with proper {@code equals} and {@code hashCode},
+     *      or {@code null} to create a new class loader for each execution
+     * @see #isReuseClassLoader()
+     * @since 4.2.1
+     */
+    protected Object getClassLoaderKey() {
+        return null;
+    }
+
+    /**
+     * Whether the driver task runs on a dedicated worker thread, which has the isolated
+     * class loader as its context class loader, while the executing thread waits for it.
+     * The context class loader of the executing thread is left alone, so that several
+     * tasks can run safely inside {@code <parallel>}. Output written to {@code System.out}
+     * and {@code System.err} by the worker thread, and messages it logs through this task,
+     * are handled by this task on the executing thread. The build listeners of the project
+     * are left alone, so messages the driver task logs through the project reach them on
+     * the worker thread, as with tasks run by {@code <parallel>}. When the executing thread
+     * is interrupted, the worker thread is interrupted and waited for, for at most 30 seconds.
+     * It is enabled by the {@code workerthread} attribute of the task, or for all tasks by
+     * the {@code com.sun.istack.tools.ProtectedTask.workerThread} project property.
+     *
+     * @return {@code true} to run the driver task on a worker thread
+     * @since 4.2.1
+     */
+    protected boolean isWorkerThread() {
+        if (workerThread != null) {
+            return workerThread;
+        }
+        return getProject() != null
+                && Boolean.parseBoolean(getProject().getProperty("com.sun.istack.tools.ProtectedTask.workerThread"));
+    }
+
+    /**
+     * Sets whether to run the driver task on a worker thread, see {@link #isWorkerThread()}.
+     *
+     * @param workerThread {@code true} to run the driver task on a worker thread
+     * @since 4.2.1
+     */
+    public void setWorkerThread(boolean workerThread) {
+        this.workerThread = workerThread;
+    }
+
+    private void executeInWorker(Task t, ClassLoader cl) {
+        BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+        Throwable[] failure = new Throwable[1];
+        Thread worker = new Thread(() -> {
+            try {
+                t.execute();
+            } catch (Throwable e) {
+                failure[0] = e;
+            } finally {
+                queue.add(DONE);
+            }
+        }, "istack-" + getTaskName());
+        worker.setContextClassLoader(cl);
+        worker.setDaemon(true);
+
+        this.worker = worker;
+        forwarded = queue;
+        // output written by the worker thread is demultiplexed to this task
+        getProject().registerThreadTask(worker, this);
+        try {
+            worker.start();
+            for (Runnable r = queue.take(); r != DONE; r = queue.take()) {
+                r.run();
+            }
+            worker.join();
+        } catch (InterruptedException e) {
+            worker.interrupt();
+            // the driver still uses the project and the class loader
+            if (!awaitWorker(worker, queue)) {
+                abandonedWorker = worker;
+                log("Worker thread " + worker.getName() + " did not stop", Project.MSG_WARN);
+            }
+            Thread.currentThread().interrupt();
+            throw new BuildException(e);
+        } finally {
+            this.worker = null;
+            forwarded = null;
+            getProject().registerThreadTask(worker, null);
+        }
+
+        Throwable e = failure[0];
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e != null) {
+            throw new BuildException(e);
+        }
+    }
+
+    /**
+     * Handles the output of the worker thread until it stops, or the timeout elapses.
+     *
+     * @return {@code true} if the worker thread stopped
+     */
+    private static boolean awaitWorker(Thread worker, BlockingQueue<Runnable> queue) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WORKER_STOP_TIMEOUT);
+        try {
+            for (long remaining = WORKER_STOP_TIMEOUT; remaining > 0;
+                    remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) {
+                Runnable r = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                if (r == DONE) {
+                    worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+                    break;
+                }
+                if (r != null) {
+                    r.run();
+                }
+            }
+        } catch (InterruptedException e) {
+            // interrupted again, stop waiting
+        }
+        return !worker.isAlive();
+    }
+
+    /**
+     * Queues {@code r} to be run on the executing thread, when called by the worker thread.
+     *
+     * @return {@code true} if {@code r} was queued
+     */
+    private boolean forward(Runnable r) {
+        BlockingQueue<Runnable> queue = forwarded;
+        if (queue != null && Thread.currentThread() == worker) {
+            queue.add(r);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void log(String msg, int msgLevel) {
+        if (!forward(() -> super.log(msg, msgLevel))) {
+            super.log(msg, msgLevel);
+        }
+    }
+
+    @Override
+    public void log(String msg, Throwable t, int msgLevel) {
+        if (!forward(() -> super.log(msg, t, msgLevel))) {
+            super.log(msg, t, msgLevel);
+        }
+    }
+
+    @Override
+    protected void handleOutput(String output) {
+        if (!forward(() -> super.handleOutput(output))) {
+            super.handleOutput(output);
+        }
+    }
+
+    @Override
+    protected void handleFlush(String output) {
+        if (!forward(() -> super.handleFlush(output))) {
+            super.handleFlush(output);
+        }
+    }
 
-            //close/cleanup all classloaders but the one which loaded this class
-            while (cl != null && !ccl.equals(cl)) {
+    @Override
+    protected void handleErrorOutput(String output) {
+        if (!forward(() -> super.handleErrorOutput(output))) {
+            super.handleErrorOutput(output);
+        }
+    }
+
+    @Override
+    protected void handleErrorFlush(String output) {
+        if (!forward(() -> super.handleErrorFlush(output))) {
+            super.handleErrorFlush(output);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<Task> loadDriver(ClassLoader cl) throws ClassNotFoundException {
+        return (Class<Task>) cl.loadClass(getCoreClassName());
+    }
+
+    /**
+     * Closes all class loaders from {@code cl} up to, but not including, {@code stop}.
+     */
+    private static void closeClassLoaders(ClassLoader cl, ClassLoader stop) {
+        //close/cleanup all classloaders but the one which loaded this class
+        while (cl != null && !cl.equals(stop)) {
+            if (cl instanceof Closeable) {
                 try {
                     ((Closeable) cl).close();
                 } catch (IOException ex) {
                     throw new BuildException(ex);
                 }
-                cl = getParentClassLoader(cl);
             }
-            cl = null;
+            cl = getParentClassLoader(cl);
         }
     }
 
@@ -111,7 +370,7 @@ public abstract class ProtectedTask extends Task implements DynamicConfigurator
      */
     protected abstract ClassLoader createClassLoader() throws ClassNotFoundException, IOException;
 
-    private ClassLoader getParentClassLoader(final ClassLoader cl) {
+    private static ClassLoader getParentClassLoader(final ClassLoader cl) {
         //Calling getParent() on AntClassLoader doesn't return the - expected -
         //actual parent classloader but always the SystemClassLoader.
         if (cl instanceof AntClassLoader) {
@@ -172,4 +431,114 @@ public abstract class ProtectedTask extends Task implements DynamicConfigurator
             }
         }
     }
+
+    /**
+     * Isolated class loader with the driver class loaded in it.
+     */
+    private static final class Isolation {
+
+        final ClassLoader loader;
+        final Class<Task> driver;
+        // the context class loader when the loader was created, not to be closed
+        final ClassLoader stop;
+
+        Isolation(ClassLoader loader, Class<Task> driver, ClassLoader stop) {
+            this.loader = loader;
+            this.driver = driver;
+            this.stop = stop;
+        }
+    }
+
+    /**
+     * Isolated class loaders of a project, closed when its build finishes.
+     */
+    private static final class IsolationCache implements SubBuildListener {
+
+        private static final String REFERENCE = IsolationCache.class.getName();
+
+        private final Project project;
+        // guarded by this
+        private final Map<Object, Isolation> isolations = new HashMap<>();
+
+        private IsolationCache(Project project) {
+            this.project = project;
+        }
+
+        static IsolationCache of(Project project) {
+            synchronized (project) {
+                IsolationCache cache = project.getReference(REFERENCE);
+                if (cache == null) {
+                    cache = new IsolationCache(project);
+                    project.addReference(REFERENCE, cache);
+                    project.addBuildListener(cache);
+                }
+                return cache;
+            }
+        }
+
+        synchronized Isolation get(Object key, ProtectedTask task, ClassLoader ccl)
+                throws ClassNotFoundException, IOException {
+            Isolation isolation = isolations.get(key);
+            if (isolation == null) {
+                ClassLoader cl = task.createClassLoader();
+                try {
+                    isolation = new Isolation(cl, task.loadDriver(cl), ccl);
+                } catch (ClassNotFoundException | RuntimeException | LinkageError e) {
+                    closeClassLoaders(cl, ccl);
+                    throw e;
+                }
+                isolations.put(key, isolation);
+            }
+            return isolation;
+        }
+
+        private synchronized void close() {
+            project.removeBuildListener(this);
+            project.getReferences().remove(REFERENCE);
+            for (Isolation isolation : isolations.values()) {
+                closeClassLoaders(isolation.loader, isolation.stop);
+            }
+            isolations.clear();
+        }
+
+        @Override
+        public void buildFinished(BuildEvent event) {
+            close();
+        }
+
+        @Override
+        public void subBuildFinished(BuildEvent event) {
+            if (event.getProject() == project) {
+                close();
+            }
+        }
+
+        @Override
+        public void buildStarted(BuildEvent event) {
+        }
+
+        @Override
+        public void subBuildStarted(BuildEvent event) {
+        }
+
+        @Override
+        public void targetStarted(BuildEvent event) {
+        }
+
+        @Override
+        public void targetFinished(BuildEvent event) {
+        }
+
+        @Override
+        public void taskStarted(BuildEvent event) {
+        }
+
+        @Override
+        public void taskFinished(BuildEvent event) {
+        }
+
+        @Override
+        public void messageLogged(BuildEvent event) {
+        }
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.tools;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class MaskingClassLoaderTest {
+
+    public MaskingClassLoaderTest() {
+    }
+
+    @Test
+    public void testPrefixSet() {
+        String[] prefixes = {"javax.xml.bind.", "javax.xml.ws.", "com.sun.xml.", "com.sun.xml.bind.", "java.util.Li", "org."};
+        PrefixSet set = PrefixSet.of(prefixes);
+        for (String name : new String[] {"javax.xml.bind.JAXBContext", "javax.xml.stream.XMLInputFactory",
+                "javax.xml.ws.Service", "com.sun.xml.bind.v2.Foo", "com.sun.xml", "java.util.List",
+                "java.util.Map", "org.Foo", "a", "zzz", "", "javax.xml.bind."}) {
+            boolean expected = Arrays.stream(prefixes).anyMatch(name::startsWith);
+            Assert.assertEquals(set.matches(name), expected, name);
+        }
+        Assert.assertFalse(PrefixSet.EMPTY.matches("a"));
+        Assert.assertTrue(PrefixSet.of("").matches("anything"));
+    }
+
+    @Test
+    public void testExclusions() throws ClassNotFoundException {
+        List<String> masks = Arrays.asList("java.util.concurrent.", "java.util.logging.");
+        MaskingClassLoader loader = new MaskingClassLoader(getClass().getClassLoader(), masks,
+                Collections.singletonList("java.util.concurrent.atomic."));
+        Assert.assertSame(loader.loadClass("java.util.List"), java.util.List.class);
+        Assert.assertSame(loader.loadClass("java.util.concurrent.atomic.AtomicLong"),
+                java.util.concurrent.atomic.AtomicLong.class);
+        Assert.assertThrows(ClassNotFoundException.class, () -> loader.loadClass("java.util.concurrent.Executor"));
+        Assert.assertThrows(ClassNotFoundException.class, () -> loader.loadClass("java.util.logging.Logger"));
+    }
+}
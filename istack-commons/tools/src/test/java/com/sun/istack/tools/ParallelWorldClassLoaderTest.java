@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
  * Copyright (c) 2012, 2023 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -11,11 +12,29 @@
 package com.sun.istack.tools;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.xml.stream.XMLInputFactory;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
@@ -116,6 +135,152 @@ public class ParallelWorldClassLoaderTest {
         Assert.assertEquals(inFactory.getClass().getClassLoader(), ucl);
     }
 
+    @Test
+    public void testConcurrentLoading() throws Exception {
+        Assert.assertTrue(pwcl.isRegisteredAsParallelCapable());
+        Assert.assertTrue(mcl.isRegisteredAsParallelCapable());
+
+        List<String> names = new ArrayList<>();
+        Path jar = createParallelWorldJar("pw/", names);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 20; round++) {
+                try (URLClassLoader parent = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null);
+                     ParallelWorldClassLoader loader = new ParallelWorldClassLoader(
+                             new MaskingClassLoader(parent, "javax.xml.bind."), "pw/")) {
+                    CyclicBarrier barrier = new CyclicBarrier(threads);
+                    List<Future<Map<String, Class<?>>>> results = new ArrayList<>();
+                    for (int t = 0; t < threads; t++) {
+                        List<String> order = new ArrayList<>(names);
+                        Collections.shuffle(order);
+                        results.add(executor.submit(() -> {
+                            barrier.await();
+                            Map<String, Class<?>> loaded = new HashMap<>();
+                            for (String name : order) {
+                                loaded.put(name, Class.forName(name, false, loader));
+                            }
+                            return loaded;
+                        }));
+                    }
+                    Map<String, Class<?>> expected = results.get(0).get();
+                    for (Future<Map<String, Class<?>>> result : results) {
+                        Assert.assertEquals(result.get(), expected);
+                    }
+                    for (Class<?> c : expected.values()) {
+                        Assert.assertSame(c.getClassLoader(), loader);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            Files.delete(jar);
+        }
+    }
+
+    @Test
+    public void testClassPathOrder() throws Exception {
+        List<String> names = new ArrayList<>();
+        Path first = Files.createTempFile("parallel-world", ".jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(first))) {
+            out.putNextEntry(new JarEntry("pw/data.txt"));
+            out.write('1');
+            out.closeEntry();
+        }
+        Path second = createParallelWorldJar("pw/", names, "data.txt", "2");
+        try (URLClassLoader parent = new URLClassLoader(new URL[] {first.toUri().toURL(), second.toUri().toURL()}, null);
+             ParallelWorldClassLoader loader = new ParallelWorldClassLoader(parent, "pw/")) {
+            Assert.assertNull(loader.getResource("javax/xml/ws/Missing.class"));
+            // opens and indexes the second jar
+            Assert.assertSame(loader.loadClass("javax.xml.ws.Service").getClassLoader(), loader);
+            URL data = loader.getResource("data.txt");
+            Assert.assertEquals(data.toExternalForm(), parent.getResource("pw/data.txt").toExternalForm());
+            try (InputStream is = data.openStream()) {
+                Assert.assertEquals(new String(is.readAllBytes(), StandardCharsets.UTF_8), "1");
+            }
+            Assert.assertEquals(Collections.list(loader.getResources("data.txt")).size(), 2);
+            // answered from the index
+            Assert.assertSame(loader.getResource("data.txt"), data);
+            Assert.assertEquals(Collections.list(loader.getResources("data.txt")).size(), 2);
+        } finally {
+            Files.delete(first);
+            Files.delete(second);
+        }
+    }
+
+    @Test
+    public void testClassCache() throws Exception {
+        List<String> names = new ArrayList<>();
+        Path jar = createParallelWorldJar("pw/", names);
+        ParallelWorldClassLoader.setClassCacheCapacity(1024 * 1024);
+        try {
+            ClassBytesCache cache = ClassBytesCache.get();
+            long[] hits = new long[2];
+            long[] misses = new long[2];
+            for (int round = 0; round < 2; round++) {
+                long h = cache.getHits();
+                long m = cache.getMisses();
+                try (URLClassLoader parent = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null);
+                     ParallelWorldClassLoader loader = new ParallelWorldClassLoader(parent, "pw/")) {
+                    for (String name : names) {
+                        Assert.assertSame(loader.loadClass(name).getClassLoader(), loader);
+                    }
+                }
+                hits[round] = cache.getHits() - h;
+                misses[round] = cache.getMisses() - m;
+            }
+            // everything was read in the first round, and served from the cache in the second one
+            Assert.assertTrue(misses[0] >= names.size());
+            Assert.assertEquals(misses[1], 0L);
+            Assert.assertEquals(hits[1], misses[0]);
+            Assert.assertTrue(ParallelWorldClassLoader.getClassCacheHitRate() > 0);
+        } finally {
+            ParallelWorldClassLoader.setClassCacheCapacity(0);
+            Files.delete(jar);
+        }
+    }
+
+    /**
+     * Creates a jar with the test classes of the {@code javax.xml.ws} package and the
+     * main classes of this module (except those depending on Ant) under the prefix.
+     */
+    private static Path createParallelWorldJar(String prefix, List<String> names) throws IOException, URISyntaxException {
+        return createParallelWorldJar(prefix, names, null, null);
+    }
+
+    private static Path createParallelWorldJar(String prefix, List<String> names, String resource, String content)
+            throws IOException, URISyntaxException {
+        Path testClasses = Paths.get(System.getProperty("surefire.test.class.path").split(File.pathSeparator)[0]);
+        Path mainClasses = Paths.get(ParallelWorldClassLoader.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path jar = Files.createTempFile("parallel-world", ".jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            addClasses(out, prefix, testClasses, testClasses.resolve("javax/xml/ws"), names);
+            addClasses(out, prefix, mainClasses, mainClasses.resolve("com/sun/istack/tools"), names);
+            if (resource != null) {
+                out.putNextEntry(new JarEntry(prefix + resource));
+                out.write(content.getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static void addClasses(JarOutputStream out, String prefix, Path root, Path dir, List<String> names) throws IOException {
+        List<Path> classes;
+        try (Stream<Path> files = Files.list(dir)) {
+            classes = files.filter(f -> f.toString().endsWith(".class"))
+                    .filter(f -> !f.getFileName().toString().startsWith("ProtectedTask"))
+                    .collect(Collectors.toList());
+        }
+        for (Path c : classes) {
+            String entry = root.relativize(c).toString().replace(File.separatorChar, '/');
+            out.putNextEntry(new JarEntry(prefix + entry));
+            Files.copy(c, out);
+            out.closeEntry();
+            names.add(entry.substring(0, entry.length() - ".class".length()).replace('/', '.'));
+        }
+    }
+
     private static boolean isJDK9() {
         return true;
     }
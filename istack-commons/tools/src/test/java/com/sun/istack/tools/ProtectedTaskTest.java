@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Distribution License v. 1.0, which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+
+package com.sun.istack.tools;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.tools.ant.BuildEvent;
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.BuildListener;
+import org.apache.tools.ant.DefaultLogger;
+import org.apache.tools.ant.DemuxOutputStream;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Task;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ProtectedTaskTest {
+
+    public ProtectedTaskTest() {
+    }
+
+    @Test
+    public void testReuseClassLoader() {
+        Project project = new Project();
+        project.init();
+        List<TrackingLoader> loaders = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < 3; i++) {
+            TestTask task = new TestTask(loaders);
+            task.setProject(project);
+            task.setReuseClassLoader(true);
+            task.execute();
+        }
+        Assert.assertEquals(loaders.size(), 1);
+        Assert.assertFalse(loaders.get(0).closed);
+
+        project.fireBuildFinished(null);
+        Assert.assertTrue(loaders.get(0).closed);
+
+        TestTask task = new TestTask(loaders);
+        task.setProject(project);
+        task.execute();
+        Assert.assertEquals(loaders.size(), 2);
+        Assert.assertTrue(loaders.get(1).closed);
+
+        // without a key the class loader may depend on anything, it is not reused
+        for (int i = 0; i < 2; i++) {
+            TestTask unkeyed = new TestTask(loaders);
+            unkeyed.key = null;
+            unkeyed.setProject(project);
+            unkeyed.setReuseClassLoader(true);
+            unkeyed.execute();
+        }
+        Assert.assertEquals(loaders.size(), 4);
+        Assert.assertTrue(loaders.get(2).closed);
+        Assert.assertTrue(loaders.get(3).closed);
+    }
+
+    @Test
+    public void testWorkerThread() {
+        Project project = new Project();
+        project.init();
+        project.setProperty("com.sun.istack.tools.ProtectedTask.workerThread", "true");
+        ClassLoader ccl = Thread.currentThread().getContextClassLoader();
+
+        TestTask task = new TestTask(Collections.synchronizedList(new ArrayList<>()));
+        task.setProject(project);
+        task.setTaskName("test");
+        task.execute();
+        Assert.assertEquals(Driver.thread.getName(), "istack-test");
+        Assert.assertNotSame(Driver.thread, Thread.currentThread());
+        Assert.assertSame(Thread.currentThread().getContextClassLoader(), ccl);
+
+        TestTask failing = new TestTask(Collections.synchronizedList(new ArrayList<>()));
+        failing.setProject(project);
+        failing.setDynamicAttribute("fail", "true");
+        BuildException e = Assert.expectThrows(BuildException.class, failing::execute);
+        Assert.assertEquals(e.getMessage(), "failed");
+    }
+
+    @Test
+    public void testWorkerThreadLogging() {
+        Project project = new Project();
+        project.init();
+        List<Thread> printed = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> logged = Collections.synchronizedList(new ArrayList<>());
+        project.addBuildListener(new DefaultLogger() {
+            @Override
+            public void messageLogged(BuildEvent event) {
+                if ("printed by driver".equals(event.getMessage())) {
+                    printed.add(Thread.currentThread());
+                } else if ("logged by driver".equals(event.getMessage())) {
+                    logged.add(Thread.currentThread());
+                }
+            }
+        });
+        List<BuildListener> listeners = new ArrayList<>(project.getBuildListeners());
+
+        TestTask task = new TestTask(Collections.synchronizedList(new ArrayList<>()));
+        task.setProject(project);
+        task.setWorkerThread(true);
+        task.setDynamicAttribute("print", "printed by driver");
+        task.setDynamicAttribute("log", "logged by driver");
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(new DemuxOutputStream(project, false), true));
+        try {
+            task.execute();
+        } finally {
+            System.setOut(out);
+        }
+        Assert.assertNotSame(Driver.thread, Thread.currentThread());
+        // output is handled by the task on the executing thread
+        Assert.assertEquals(printed, List.of(Thread.currentThread()));
+        Assert.assertEquals(logged, List.of(Driver.thread));
+        Assert.assertEquals(project.getBuildListeners(), listeners);
+    }
+
+    @Test
+    public void testWorkerThreadInterrupted() throws InterruptedException {
+        Project project = new Project();
+        project.init();
+        List<TrackingLoader> loaders = Collections.synchronizedList(new ArrayList<>());
+        TestTask task = new TestTask(loaders);
+        task.setProject(project);
+        task.setWorkerThread(true);
+        task.setDynamicAttribute("block", "true");
+        Driver.started = new CountDownLatch(1);
+        Driver.cleanedUp = false;
+
+        Throwable[] failure = new Throwable[1];
+        Thread executing = new Thread(() -> {
+            try {
+                task.execute();
+            } catch (Throwable e) {
+                failure[0] = e;
+            }
+        });
+        executing.start();
+        Assert.assertTrue(Driver.started.await(10, TimeUnit.SECONDS));
+        executing.interrupt();
+        executing.join(TimeUnit.SECONDS.toMillis(10));
+
+        Assert.assertTrue(failure[0] instanceof BuildException);
+        // the driver finished with its project and class loader still in place
+        Assert.assertTrue(Driver.cleanedUp);
+        Assert.assertTrue(loaders.get(0).closed);
+    }
+
+    public static final class Driver extends Task {
+
+        static volatile Thread thread;
+        static volatile CountDownLatch started;
+        static volatile boolean cleanedUp;
+        private boolean fail;
+        private boolean block;
+        private String log;
+        private String print;
+
+        public Driver() {
+        }
+
+        public void setFail(boolean fail) {
+            this.fail = fail;
+        }
+
+        public void setBlock(boolean block) {
+            this.block = block;
+        }
+
+        public void setLog(String log) {
+            this.log = log;
+        }
+
+        public void setPrint(String print) {
+            this.print = print;
+        }
+
+        @Override
+        public void execute() {
+            thread = Thread.currentThread();
+            ClassLoader cl = Thread.currentThread().getContextClassLoader();
+            Assert.assertTrue(cl instanceof TrackingLoader);
+            if (log != null) {
+                log(log);
+            }
+            if (print != null) {
+                System.out.println(print);
+            }
+            if (block) {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    // clean up slowly
+                    long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+                    while (System.nanoTime() < end) {
+                        Thread.onSpinWait();
+                    }
+                    cleanedUp = getProject() != null && !((TrackingLoader) cl).closed;
+                }
+            }
+            if (fail) {
+                throw new BuildException("failed");
+            }
+        }
+    }
+
+    private static final class TestTask extends ProtectedTask {
+
+        private final List<TrackingLoader> loaders;
+        Object key = Driver.class.getName();
+
+        TestTask(List<TrackingLoader> loaders) {
+            this.loaders = loaders;
+        }
+
+        @Override
+        protected String getCoreClassName() {
+            return Driver.class.getName();
+        }
+
+        @Override
+        protected Object getClassLoaderKey() {
+            return key;
+        }
+
+        @Override
+        protected ClassLoader createClassLoader() {
+            TrackingLoader loader = new TrackingLoader(ProtectedTaskTest.class.getClassLoader());
+            loaders.add(loader);
+            return loader;
+        }
+    }
+
+    private static final class TrackingLoader extends URLClassLoader {
+
+        volatile boolean closed;
+
+        TrackingLoader(ClassLoader parent) {
+            super(new URL[0], parent);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}